@@ -0,0 +1,82 @@
+package com.example.beplay_v3;
+
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.google.gson.GsonBuilder;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+/**
+ * Cold first parse on the device: what each screen used to do (build a fresh Gson and parse
+ * its first payload, discovering reflective adapters every time) against the ApiJson adapters.
+ * Medians go to logcat under {@link #TAG}.
+ *
+ * Opt-in, so connectedAndroidTest stays quick:
+ *   ./gradlew :app:connectedDebugAndroidTest -Pandroid.testInstrumentationRunnerArguments.benchmark=true
+ *       -Pandroid.testInstrumentationRunnerArguments.class=com.example.beplay_v3.ApiJsonColdParseBenchmark
+ */
+@RunWith(AndroidJUnit4.class)
+public class ApiJsonColdParseBenchmark {
+
+    static final String TAG = "ParseBenchmark";
+
+    private static final int ROUNDS = 40;
+
+    @Before
+    public void optIn() {
+        Assume.assumeTrue("pass benchmark=true to run",
+                "true".equals(InstrumentationRegistry.getArguments().getString("benchmark")));
+    }
+
+    @Test
+    public void coldParse() {
+        long[] reflectiveNanos = new long[ROUNDS];
+        long[] adapterNanos = new long[ROUNDS];
+
+        for (int i = 0; i < ROUNDS; i++) {
+            // Alternate which path goes first so class loading/JIT warm-up is not charged to one side
+            if (i % 2 == 0) {
+                reflectiveNanos[i] = coldReflective();
+                adapterNanos[i] = coldAdapters();
+            } else {
+                adapterNanos[i] = coldAdapters();
+                reflectiveNanos[i] = coldReflective();
+            }
+        }
+
+        Log.i(TAG, String.format("cold first parse of %d models, fresh Gson per screen: reflective median %.3f ms, "
+                + "ApiJson median %.3f ms", ApiFixtures.MODELS.length, median(reflectiveNanos) / 1e6, median(adapterNanos) / 1e6));
+    }
+
+    // Old: each screen built its own Gson and parsed its first payload
+    private static long coldReflective() {
+        long t0 = System.nanoTime();
+        for (Object[] f : ApiFixtures.MODELS) {
+            new GsonBuilder().create().fromJson((String) f[0], (Class<?>) f[1]);
+        }
+        return System.nanoTime() - t0;
+    }
+
+    // New: adapters are plain objects, nothing is discovered reflectively on first parse
+    private static long coldAdapters() {
+        long t0 = System.nanoTime();
+        for (Object[] f : ApiFixtures.MODELS) {
+            ApiJson.register(new GsonBuilder()).create().fromJson((String) f[0], (Class<?>) f[1]);
+        }
+        return System.nanoTime() - t0;
+    }
+
+    static double median(long[] v) {
+        long[] c = v.clone();
+        Arrays.sort(c);
+        return c[c.length / 2];
+    }
+}
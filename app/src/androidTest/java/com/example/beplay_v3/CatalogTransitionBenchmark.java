@@ -0,0 +1,99 @@
+package com.example.beplay_v3;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+/**
+ * Level-to-level transition time on the device, before and after the catalog host:
+ * opening a level as a new activity (one activity per level, as before) against opening it
+ * inside the running host. Both are timed by {@link CatalogHostActivity} between the same two
+ * points, the pick and the level's rows on screen; medians go to logcat under
+ * {@link ApiJsonColdParseBenchmark#TAG}.
+ *
+ * The level's rows are loaded once first, so both sides read them from the repository and
+ * only the transition itself is compared. Opt-in, and needs a real level to open:
+ *   ./gradlew :app:connectedDebugAndroidTest -Pandroid.testInstrumentationRunnerArguments.benchmark=true
+ *       -Pandroid.testInstrumentationRunnerArguments.path=idiomas/BR/categoria/9
+ *       -Pandroid.testInstrumentationRunnerArguments.class=com.example.beplay_v3.CatalogTransitionBenchmark
+ */
+@RunWith(AndroidJUnit4.class)
+public class CatalogTransitionBenchmark {
+
+    private static final int ROUNDS = 10;
+    private static final long TIMEOUT_MS = 20_000;
+
+    private CatalogPath level;
+    private CatalogPath parent;
+
+    @Before
+    public void optIn() {
+        Bundle args = InstrumentationRegistry.getArguments();
+        Assume.assumeTrue("pass benchmark=true to run", "true".equals(args.getString("benchmark")));
+        level = CatalogPath.parse(args.getString("path"));
+        Assume.assumeTrue("pass path=<level below a country>, e.g. idiomas/BR/categoria/9", level.depth() >= 2);
+
+        String s = level.toString();
+        parent = CatalogPath.parse(s.substring(0, s.lastIndexOf('/', s.lastIndexOf('/') - 1)));
+    }
+
+    @Test
+    public void newActivityAgainstInHost() {
+        Context ctx = InstrumentationRegistry.getInstrumentation().getTargetContext();
+
+        // Load the level once so neither side pays for the network
+        int loaded = CatalogHostActivity.TRANSITIONS.size(CatalogHostActivity.FIRST_LEVEL);
+        try (ActivityScenario<CatalogHostActivity> warm = ActivityScenario.launch(CatalogHostActivity.intent(ctx, level))) {
+            await(CatalogHostActivity.FIRST_LEVEL, loaded);
+        }
+
+        // Before: each level was its own activity
+        for (int i = 0; i < ROUNDS; i++) {
+            int before = CatalogHostActivity.TRANSITIONS.size(CatalogHostActivity.NEW_ACTIVITY);
+            Intent pick = CatalogHostActivity.intent(ctx, level)
+                    .putExtra(CatalogHostActivity.EXTRA_PICKED_AT, SystemClock.uptimeMillis());
+            try (ActivityScenario<CatalogHostActivity> s = ActivityScenario.launch(pick)) {
+                await(CatalogHostActivity.NEW_ACTIVITY, before);
+            }
+        }
+
+        // After: the level is a destination inside the running host
+        int shown = CatalogHostActivity.TRANSITIONS.size(CatalogHostActivity.FIRST_LEVEL);
+        try (ActivityScenario<CatalogHostActivity> s = ActivityScenario.launch(CatalogHostActivity.intent(ctx, parent))) {
+            await(CatalogHostActivity.FIRST_LEVEL, shown);
+            for (int i = 0; i < ROUNDS; i++) {
+                int before = CatalogHostActivity.TRANSITIONS.size(CatalogHostActivity.IN_HOST);
+                s.onActivity(host -> host.open(CatalogDestination.forPath(level)));
+                await(CatalogHostActivity.IN_HOST, before);
+                s.onActivity(CatalogHostActivity::onBackPressed);
+            }
+        }
+
+        Log.i(ApiJsonColdParseBenchmark.TAG, String.format("%s, %d rounds: new activity median %d ms, in host median %d ms",
+                level, ROUNDS,
+                CatalogHostActivity.TRANSITIONS.percentile(CatalogHostActivity.NEW_ACTIVITY, 50, 1),
+                CatalogHostActivity.TRANSITIONS.percentile(CatalogHostActivity.IN_HOST, 50, 1)));
+    }
+
+    // Until the host has recorded one more transition of this kind
+    private static void await(String kind, int before) {
+        long deadline = SystemClock.uptimeMillis() + TIMEOUT_MS;
+        while (CatalogHostActivity.TRANSITIONS.size(kind) <= before) {
+            assertTrue(kind + " level not shown within " + TIMEOUT_MS + " ms", SystemClock.uptimeMillis() < deadline);
+            SystemClock.sleep(10);
+        }
+    }
+}
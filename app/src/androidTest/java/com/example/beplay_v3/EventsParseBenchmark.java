@@ -0,0 +1,78 @@
+package com.example.beplay_v3;
+
+import android.os.Debug;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Latency and memory of parsing a large events payload on the device: the old path
+ * (body String + JsonObject tree + safeString/safeInt) against the streaming ApiJson decoder.
+ * Per-parse medians and allocated KiB go to logcat under {@link ApiJsonColdParseBenchmark#TAG}.
+ *
+ * Opt-in, so connectedAndroidTest stays quick:
+ *   ./gradlew :app:connectedDebugAndroidTest -Pandroid.testInstrumentationRunnerArguments.benchmark=true
+ *       -Pandroid.testInstrumentationRunnerArguments.class=com.example.beplay_v3.EventsParseBenchmark
+ */
+@RunWith(AndroidJUnit4.class)
+public class EventsParseBenchmark {
+
+    private static final int EVENTS     = 2000;
+    private static final int WARMUP     = 5;
+    private static final int ITERATIONS = 15;
+
+    private final Gson streaming = ApiJson.register(new GsonBuilder()).create();
+
+    @Before
+    public void optIn() {
+        Assume.assumeTrue("pass benchmark=true to run",
+                "true".equals(InstrumentationRegistry.getArguments().getString("benchmark")));
+    }
+
+    @Test
+    public void treeAgainstStreaming() throws Exception {
+        byte[] payload = ApiFixtures.eventsPayload(EVENTS);
+
+        for (int i = 0; i < WARMUP; i++) {
+            ApiFixtures.parseEventsWithTree(payload);
+            ApiFixtures.parseEventsStreaming(streaming, payload);
+        }
+
+        long[] treeNanos = new long[ITERATIONS], streamNanos = new long[ITERATIONS];
+        long treeBytes = 0, streamBytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long a0 = allocatedBytes();
+            long t0 = System.nanoTime();
+            ApiFixtures.parseEventsWithTree(payload);
+            treeNanos[i] = System.nanoTime() - t0;
+            treeBytes += allocatedBytes() - a0;
+
+            a0 = allocatedBytes();
+            t0 = System.nanoTime();
+            ApiFixtures.parseEventsStreaming(streaming, payload);
+            streamNanos[i] = System.nanoTime() - t0;
+            streamBytes += allocatedBytes() - a0;
+        }
+
+        Log.i(ApiJsonColdParseBenchmark.TAG, String.format("events payload: %d events, %d KiB", EVENTS, payload.length / 1024));
+        Log.i(ApiJsonColdParseBenchmark.TAG, String.format("string+tree : median %.2f ms, %d KiB allocated/parse",
+                ApiJsonColdParseBenchmark.median(treeNanos) / 1e6, treeBytes / ITERATIONS / 1024));
+        Log.i(ApiJsonColdParseBenchmark.TAG, String.format("streaming   : median %.2f ms, %d KiB allocated/parse",
+                ApiJsonColdParseBenchmark.median(streamNanos) / 1e6, streamBytes / ITERATIONS / 1024));
+    }
+
+    // Whole-process count, but nothing else allocates much while the instrumentation thread parses
+    private static long allocatedBytes() {
+        String v = Debug.getRuntimeStat("art.gc.bytes-allocated");
+        return (v != null) ? Long.parseLong(v) : 0L;
+    }
+}
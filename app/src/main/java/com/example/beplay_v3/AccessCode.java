@@ -0,0 +1,36 @@
+package com.example.beplay_v3;
+
+import java.util.Locale;
+
+/**
+ * The credentials in an access QR code: "Userid=Beplay;Password=1111"
+ * (also "UserId:Beplay", quoted values, any key order).
+ */
+final class AccessCode {
+
+    final String userId;
+    final String password;
+
+    private AccessCode(String userId, String password) {
+        this.userId = userId;
+        this.password = password;
+    }
+
+    /** The code's credentials, or null when it does not carry both a user id and a password. */
+    static AccessCode parse(String raw) {
+        if (raw == null) return null;
+        String userId = null, password = null;
+        for (String p : raw.trim().split(";")) {
+            String[] kv = p.split("[:=]", 2);
+            if (kv.length != 2) continue;
+            String k = kv[0].trim().toLowerCase(Locale.US);
+            String v = kv[1].trim();
+            if (v.length() >= 2 && ((v.startsWith("\"") && v.endsWith("\"")) || (v.startsWith("'") && v.endsWith("'")))) {
+                v = v.substring(1, v.length() - 1).trim();
+            }
+            if ("userid".equals(k)) userId = v;
+            if ("password".equals(k)) password = v;
+        }
+        return userId != null && password != null ? new AccessCode(userId, password) : null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.beplay_v3;
+
+import com.google.gson.annotations.SerializedName;
+
+// { "professional": { "id", "name", ... } }
+public class AccessibilityDetailEnvelope {
+    @SerializedName("professional") public ProfessionalItem professional;
+}
@@ -2,11 +2,16 @@ package com.example.beplay_v3;
 
 import com.google.gson.annotations.SerializedName;
 
-public class AccessibilityItem {
+public class AccessibilityItem implements CatalogNode {
     @SerializedName("id") public Integer id;
     @SerializedName("name") public String name;
     @SerializedName("image_link") public String imageLink;
     @SerializedName("alt_image") public String altImage;
     @SerializedName("type_channel_id") public String typeChannelId;
     @SerializedName("link") public String link;
+
+    // ===== CatalogNode =====
+    @Override public String nodeId() { return id == null ? null : String.valueOf(id); }
+    @Override public String nodeLabel() { return name; }
+    @Override public String nodeUpdatedAt() { return null; }
 }
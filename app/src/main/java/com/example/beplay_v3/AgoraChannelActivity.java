@@ -4,6 +4,8 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import android.Manifest;
+import android.content.Context;
+import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.os.Bundle;
 import android.text.TextUtils;
@@ -17,17 +19,11 @@ import android.widget.FrameLayout;
 import android.widget.TextView;
 import android.widget.Toast;
 
-import android.speech.tts.TextToSpeech;
-import android.speech.tts.UtteranceProgressListener;
-
-import com.vuzix.sdk.speechrecognitionservice.VuzixSpeechClient;
-
 import org.json.JSONObject;
 
 import java.nio.charset.StandardCharsets;
-import java.util.HashSet;
-import java.util.Locale;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import io.agora.rtc2.ChannelMediaOptions;
 import io.agora.rtc2.Constants;
@@ -47,6 +43,51 @@ public class AgoraChannelActivity extends AppCompatActivity {
 
     private static final int REQ_PERM = 33;
 
+    /**
+     * Intent that joins {@code ch}, or null if its credentials are incomplete.
+     * Used by the catalog's channel level and by the deep-link path, which skips the catalog.
+     */
+    static Intent joinIntent(Context ctx, ChannelInfo ch) {
+        String appId   = ch.appId;
+        String token   = ch.token;
+        String channel = (ch.channelName != null) ? ch.channelName : ch.idChannel;
+        if (isBlank(appId) || isBlank(token) || isBlank(channel)) return null;
+
+        Integer typeId = (ch.accessibility != null) ? parseIntOrNull(ch.accessibility.typeChannelId) : null;
+        // 1 = video, 2 = audio
+        boolean isVideo = (typeId != null && typeId == 1);
+
+        // Detect if this accessibility implies captions
+        boolean hasCaptions = false;
+        if (ch.accessibility != null) {
+            String accName = VoicePager.normalizeLower(ch.accessibility.name);
+            hasCaptions = accName.contains("caption")
+                    || accName.contains("closed caption")
+                    || accName.contains("cc")
+                    || accName.contains("subtitle")
+                    || accName.contains("legend")
+                    || accName.contains("legenda");
+        }
+
+        Intent go = new Intent(ctx, AgoraChannelActivity.class);
+        go.putExtra(EXTRA_AGORA_APP_ID, appId);
+        go.putExtra(EXTRA_AGORA_TOKEN, token);
+        go.putExtra(EXTRA_AGORA_CHANNEL, channel);
+        go.putExtra(EXTRA_AGORA_IS_VIDEO, isVideo);
+        go.putExtra(EXTRA_AGORA_HAS_CC, hasCaptions);
+        return go;
+    }
+
+    private static boolean isBlank(String s) { return s == null || s.trim().isEmpty(); }
+
+    private static Integer parseIntOrNull(String s) {
+        try {
+            return (s != null) ? Integer.valueOf(s.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     // Keep false (you’re not using protobuf here)
     private static final boolean USE_PROTOBUF_DECODER = false;
 
@@ -65,18 +106,15 @@ public class AgoraChannelActivity extends AppCompatActivity {
 
     private Integer currentRemoteUid = null;
 
-    // ===== TTS fields (same style as RegionsActivity) =====
-    private TextToSpeech tts;
-    private View lastSpokenView = null;
-    private long lastSpeakMillis = 0L;
+    // ===== TTS fields (same style as CatalogHostActivity) =====
+    private SpeechService.Handle tts;
     private boolean introFinished = false;
 
     // ===== Lock state =====
     private boolean isLocked = false;
 
-    // ===== Vuzix voice client for lock/unlock =====
-    private VuzixSpeechClient vuzixSpeechClient;
-    private final Set<String> registeredPhrases = new HashSet<>();
+    // ===== Vuzix voice phrases for lock/unlock =====
+    private VoicePhraseRegistry.Scope voice;
 
     private final IRtcEngineEventHandler handler = new IRtcEngineEventHandler() {
         @Override
@@ -180,7 +218,7 @@ public class AgoraChannelActivity extends AppCompatActivity {
             btnMute.setEnabled(false);
             btnClearCC.setEnabled(false);
             if (btnLock != null) btnLock.setEnabled(false);
-            speakText("Required call information is missing. Cannot join channel.");
+            speakAlert("Required call information is missing. Cannot join channel.");
             return;
         }
 
@@ -276,29 +314,16 @@ public class AgoraChannelActivity extends AppCompatActivity {
 
     // ===== Vuzix helpers =====
     private void initVuzixSpeechClient() {
-        try {
-            vuzixSpeechClient = new VuzixSpeechClient(this);
-        } catch (Exception e) {
-            vuzixSpeechClient = null;
-        }
+        voice = VoicePhraseRegistry.get(this).attach(this);
     }
 
     private void registerLockVoiceCommands() {
-        if (vuzixSpeechClient == null) return;
-
-        try {
-            vuzixSpeechClient.insertKeycodePhrase("lock screen", KeyEvent.KEYCODE_F5);
-            vuzixSpeechClient.insertKeycodePhrase("Lock screen", KeyEvent.KEYCODE_F5);
-            registeredPhrases.add("lock screen");
-            registeredPhrases.add("Lock screen");
-        } catch (Exception ignored) {}
-
-        try {
-            vuzixSpeechClient.insertKeycodePhrase("unlock screen", KeyEvent.KEYCODE_F6);
-            vuzixSpeechClient.insertKeycodePhrase("Unlock screen", KeyEvent.KEYCODE_F6);
-            registeredPhrases.add("unlock screen");
-            registeredPhrases.add("Unlock screen");
-        } catch (Exception ignored) {}
+        Map<String, Integer> phrases = new LinkedHashMap<>();
+        phrases.put("lock screen", KeyEvent.KEYCODE_F5);
+        phrases.put("Lock screen", KeyEvent.KEYCODE_F5);
+        phrases.put("unlock screen", KeyEvent.KEYCODE_F6);
+        phrases.put("Unlock screen", KeyEvent.KEYCODE_F6);
+        voice.setPhrases(phrases);
     }
 
     // ===== Lock/unlock core logic (used by button & voice) =====
@@ -320,21 +345,14 @@ public class AgoraChannelActivity extends AppCompatActivity {
     // ===== TTS helpers =====
     private void initTts() {
         if (tts != null) return;
-        tts = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                tts.setLanguage(Locale.US);
-                tts.setSpeechRate(0.9f);
-                tts.setPitch(0.9f);
-
-                tts.setOnUtteranceProgressListener(new UtteranceProgressListener() {
-                    @Override
-                    public void onStart(String utteranceId) { }
-
+        tts = SpeechService.get(this).attach(this)
+                .setVoice(0.9f, 0.9f)
+                .setListener(new SpeechService.Listener() {
                     @Override
                     public void onDone(String utteranceId) {
                         if ("intro_agora_call".equals(utteranceId)) {
                             introFinished = true;
-                            runOnUiThread(() -> speakCurrentlyFocusedItem());
+                            speakCurrentlyFocusedItem();
                         }
                     }
 
@@ -344,11 +362,11 @@ public class AgoraChannelActivity extends AppCompatActivity {
                     }
                 });
 
-                // Intro sentence like RegionsActivity
-                tts.speak("Call screen",
-                        TextToSpeech.QUEUE_FLUSH,
-                        null,
-                        "intro_agora_call");
+        // Shared engine (SpeechService): already initialized unless this is the very first screen
+        tts.whenReady(ok -> {
+            if (ok) {
+                // Intro sentence like the catalog screens
+                tts.say("Call screen", "intro_agora_call", SpeechPriority.INTRO);
             } else {
                 Toast.makeText(this, "Text-to-Speech initialization failed", Toast.LENGTH_SHORT).show();
                 introFinished = true;
@@ -394,24 +412,17 @@ public class AgoraChannelActivity extends AppCompatActivity {
 
     private void speakText(String text) {
         if (tts == null || text == null || text.trim().isEmpty()) return;
-        try {
-            if (tts.isSpeaking()) {
-                tts.stop();
-            }
-        } catch (Exception ignored) {}
-        tts.speak(text, TextToSpeech.QUEUE_FLUSH, null, null);
+        tts.speak(text, null);
+    }
+
+    private void speakAlert(String text) {
+        if (tts == null || text == null || text.trim().isEmpty()) return;
+        tts.say(text, null, SpeechPriority.ALERT);
     }
 
     private void speakViewLabel(View v, String fallback) {
         if (!introFinished || v == null) return;
 
-        long now = System.currentTimeMillis();
-        if (v == lastSpokenView && (now - lastSpeakMillis) < 800) {
-            return; // avoid spam
-        }
-        lastSpokenView = v;
-        lastSpeakMillis = now;
-
         CharSequence labelCs = null;
         if (v instanceof Button) {
             labelCs = ((Button) v).getText();
@@ -420,7 +431,7 @@ public class AgoraChannelActivity extends AppCompatActivity {
         String toSpeak = (label != null && !label.trim().isEmpty()) ? label : fallback;
 
         if (toSpeak != null && !toSpeak.trim().isEmpty()) {
-            speakText(toSpeak);
+            tts.say(toSpeak, null, SpeechPriority.FOCUS);
         }
     }
 
@@ -466,7 +477,7 @@ public class AgoraChannelActivity extends AppCompatActivity {
             append("Joining channel: " + channel + " (res=" + res + ")");
         } catch (Exception e) {
             append("Agora init failed: " + e.getMessage());
-            speakText("Failed to start the call.");
+            speakAlert("Failed to start the call.");
         }
     }
 
@@ -504,23 +515,10 @@ public class AgoraChannelActivity extends AppCompatActivity {
         destroyEngine();
 
         if (tts != null) {
-            try {
-                tts.stop();
-                tts.shutdown();
-            } catch (Exception ignored) {}
+            tts.release(); // the shared engine keeps running
             tts = null;
         }
 
-        if (vuzixSpeechClient != null) {
-            for (String phrase : registeredPhrases) {
-                try {
-                    vuzixSpeechClient.deletePhrase(phrase);
-                } catch (Exception ignored) {}
-            }
-            registeredPhrases.clear();
-            vuzixSpeechClient = null;
-        }
-
         super.onDestroy();
     }
 
@@ -547,7 +545,7 @@ public class AgoraChannelActivity extends AppCompatActivity {
         for (int r : results) {
             if (r != PackageManager.PERMISSION_GRANTED) {
                 Toast.makeText(this, "Permissions required to join channel", Toast.LENGTH_LONG).show();
-                speakText("Permissions required to join the call.");
+                speakAlert("Permissions required to join the call.");
                 return;
             }
         }
@@ -0,0 +1,173 @@
+package com.example.beplay_v3;
+
+import android.util.Log;
+
+import androidx.lifecycle.LifecycleOwner;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.CacheControl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Converter;
+import retrofit2.Response;
+
+/**
+ * Stale-while-revalidate wrapper around a Retrofit call.
+ *
+ * 1) Read the disk cache only (no network) and deliver it right away if present; catalog
+ *    copies are stored as "max-age=0" (see {@link CatalogCacheInterceptor}), so this read
+ *    serves them however stale they are.
+ * 2) Hit the network; OkHttp adds If-None-Match / If-Modified-Since from the cached copy.
+ *    A 304 means the stale copy was already correct, so nothing is re-delivered.
+ * 3) If the network fails but a cached copy was delivered, the screen keeps it.
+ *
+ * The network leg goes through {@link InFlightCalls}, so identical GETs share one request,
+ * and {@link #bindTo} cancels/detaches the call when its screen is destroyed.
+ */
+public final class ApiCall<T> {
+
+    private static final String TAG = "ApiCall";
+
+    private final Call<T> delegate;
+    private final OkHttpClient client;
+    private final Converter<ResponseBody, T> converter;
+    private final Executor callbackExecutor;
+    private final InFlightCalls inFlight;
+
+    private volatile okhttp3.Call cacheCall;
+    private volatile Runnable detach;
+    private volatile ApiCallback<T> callback;
+    private volatile CancelOnDestroy lifecycleBinding;
+    private volatile boolean canceled = false;
+    private volatile boolean deliveredCached = false;
+    private final AtomicBoolean finished = new AtomicBoolean(false);
+
+    ApiCall(Call<T> delegate, OkHttpClient client, Converter<ResponseBody, T> converter,
+            Executor callbackExecutor, InFlightCalls inFlight) {
+        this.delegate = delegate;
+        this.client = client;
+        this.converter = converter;
+        this.callbackExecutor = callbackExecutor;
+        this.inFlight = inFlight;
+    }
+
+    public Request request() { return delegate.request(); }
+
+    /** Cancels this call when {@code owner} is destroyed. Call on the main thread, before enqueue. */
+    public ApiCall<T> bindTo(LifecycleOwner owner) {
+        lifecycleBinding = CancelOnDestroy.bind(owner, this::cancel);
+        return this;
+    }
+
+    public void enqueue(ApiCallback<T> callback) {
+        this.callback = callback;
+        if (canceled) {
+            finish(callback);
+            return;
+        }
+        Request cacheOnly = delegate.request().newBuilder()
+                .cacheControl(CacheControl.FORCE_CACHE)
+                .build();
+
+        cacheCall = client.newCall(cacheOnly);
+        cacheCall.enqueue(new okhttp3.Callback() {
+            @Override public void onFailure(okhttp3.Call call, IOException e) {
+                fetchNetwork(callback);
+            }
+
+            @Override public void onResponse(okhttp3.Call call, okhttp3.Response raw) {
+                // FORCE_CACHE answers 504 when nothing is stored
+                if (raw.isSuccessful() && raw.body() != null) {
+                    try {
+                        T body = converter.convert(raw.body());
+                        deliveredCached = true;
+                        deliver(() -> callback.onResponse(Response.success(body, raw), true));
+                    } catch (Exception e) {
+                        Log.w(TAG, "Ignoring unreadable cache entry for " + raw.request().url(), e);
+                    }
+                } else {
+                    raw.close();
+                }
+                fetchNetwork(callback);
+            }
+        });
+    }
+
+    private void fetchNetwork(ApiCallback<T> callback) {
+        if (canceled) {
+            finish(callback);
+            return;
+        }
+        // Identical GETs already on the wire are shared instead of sent twice
+        detach = inFlight.join(delegate, new InFlightCalls.Listener<T>() {
+            @Override public void onResponse(Response<T> response) {
+                if (deliveredCached) {
+                    okhttp3.Response network = response.raw().networkResponse();
+                    // 304 (or served from cache again): the stale copy is still current
+                    // Server error while we have data on screen: keep the stale copy
+                    if (network == null || network.code() == 304 || !response.isSuccessful()) {
+                        finish(callback);
+                        return;
+                    }
+                }
+                deliver(() -> callback.onResponse(response, false));
+                finish(callback);
+            }
+
+            @Override public void onFailure(Throwable t) {
+                if (deliveredCached) {
+                    Log.w(TAG, "Revalidation failed, keeping cached copy: " + t.getMessage());
+                } else {
+                    deliver(() -> callback.onFailure(t));
+                }
+                finish(callback);
+            }
+        });
+    }
+
+    public void cancel() {
+        canceled = true;
+        okhttp3.Call c = cacheCall;
+        if (c != null) c.cancel();
+        Runnable d = detach;
+        if (d != null) {
+            // Other callers may still be waiting on the shared request; only step off it
+            d.run();
+            ApiCallback<T> cb = callback;
+            if (cb != null) finish(cb);
+        } else {
+            delegate.cancel();
+        }
+    }
+
+    public boolean isCanceled() { return canceled; }
+
+    // Unlike deliver(), runs even after cancel() so callers can release bookkeeping; at most once
+    private void finish(ApiCallback<T> callback) {
+        if (!finished.compareAndSet(false, true)) return;
+        Runnable done = () -> {
+            CancelOnDestroy binding = lifecycleBinding;
+            if (binding != null) binding.release();
+            callback.onFinished();
+        };
+        if (callbackExecutor != null) {
+            callbackExecutor.execute(done);
+        } else {
+            done.run();
+        }
+    }
+
+    private void deliver(Runnable r) {
+        if (canceled) return;
+        if (callbackExecutor != null) {
+            callbackExecutor.execute(() -> { if (!canceled) r.run(); });
+        } else {
+            r.run();
+        }
+    }
+}
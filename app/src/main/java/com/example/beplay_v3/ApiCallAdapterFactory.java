@@ -0,0 +1,44 @@
+package com.example.beplay_v3;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/** Lets {@link BePlayService} methods return {@link ApiCall} instead of a plain Retrofit Call. */
+final class ApiCallAdapterFactory extends CallAdapter.Factory {
+
+    private final OkHttpClient client;
+    private final InFlightCalls inFlight;
+
+    ApiCallAdapterFactory(OkHttpClient client, FetchPolicy policy) {
+        this.client = client;
+        this.inFlight = new InFlightCalls(policy);
+    }
+
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != ApiCall.class) return null;
+        if (!(returnType instanceof ParameterizedType)) {
+            throw new IllegalStateException("ApiCall return type must be parameterized, e.g. ApiCall<EventItem[]>");
+        }
+        Type responseType = getParameterUpperBound(0, (ParameterizedType) returnType);
+        Converter<ResponseBody, Object> converter = retrofit.responseBodyConverter(responseType, annotations);
+        Executor callbackExecutor = retrofit.callbackExecutor();
+
+        return new CallAdapter<Object, ApiCall<Object>>() {
+            @Override public Type responseType() { return responseType; }
+
+            @Override public ApiCall<Object> adapt(Call<Object> call) {
+                return new ApiCall<>(call, client, converter, callbackExecutor, inFlight);
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.beplay_v3;
+
+import retrofit2.Response;
+
+/**
+ * Callback for {@link ApiCall}. Always invoked on the main thread.
+ * onResponse can fire twice: first with the stale disk copy (fromCache = true),
+ * then again with the revalidated network copy if it changed.
+ */
+public interface ApiCallback<T> {
+
+    void onResponse(Response<T> response, boolean fromCache);
+
+    /** Only called when there is no cached copy to fall back on. */
+    void onFailure(Throwable t);
+
+    /**
+     * The network leg is over (delivered, 304, kept stale copy, failed or canceled).
+     * Always called exactly once, after any onResponse/onFailure.
+     */
+    default void onFinished() {}
+}
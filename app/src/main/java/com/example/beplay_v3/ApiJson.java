@@ -0,0 +1,705 @@
+package com.example.beplay_v3;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written streaming adapters for every API model.
+ *
+ * Registered on the one shared Gson (BePlayApi), so no screen pays for Gson's
+ * reflective adapter discovery: the first parse of a model is as cheap as the next.
+ *
+ * Retrofit feeds the response source straight into a JsonReader, so a payload is
+ * decoded field by field into the typed model: no body String, no JsonObject tree,
+ * and subtrees we never read (nested event/room/category objects, unknown fields)
+ * are skipped with {@link JsonReader#skipValue()}.
+ *
+ * Readers are lenient like the old safeString/safeInt helpers: a field with an
+ * unexpected type is read as null instead of failing the whole payload.
+ */
+final class ApiJson {
+
+    private ApiJson() {}
+
+    static GsonBuilder register(GsonBuilder builder) {
+        return builder
+                .registerTypeAdapter(Language.class, new LanguageAdapter())
+                .registerTypeAdapter(CategoryItem.class, new CategoryItemAdapter())
+                .registerTypeAdapter(EventItem.class, new EventItemAdapter())
+                .registerTypeAdapter(RoomItem.class, new RoomItemAdapter())
+                .registerTypeAdapter(RoomsEnvelope.class, new RoomsAdapter())
+                .registerTypeAdapter(RegionsEnvelope.class, new RegionsAdapter())
+                .registerTypeAdapter(RegionItem.class, new RegionItemAdapter())
+                .registerTypeAdapter(IdiomaItem.class, new IdiomaItemAdapter())
+                .registerTypeAdapter(RegionDetailEnvelope.class, new RegionDetailAdapter())
+                .registerTypeAdapter(RegionLanguageItem.class, new RegionLanguageItemAdapter())
+                .registerTypeAdapter(RegionLanguagesEnvelope.class, new RegionLanguagesAdapter())
+                .registerTypeAdapter(AccessibilityItem.class, new AccessibilityItemAdapter())
+                .registerTypeAdapter(AccessibilitiesEnvelope.class, new AccessibilitiesAdapter())
+                .registerTypeAdapter(ProfessionalItem.class, new ProfessionalItemAdapter())
+                .registerTypeAdapter(AccessibilityDetailEnvelope.class, new AccessibilityDetailAdapter())
+                .registerTypeAdapter(ChannelInfo.class, new ChannelInfoAdapter())
+                .registerTypeAdapter(ChannelEnvelope.class, new ChannelAdapter());
+    }
+
+    // ===== Lenient field readers =====
+
+    /** Enters an object, or skips the value (null, array, primitive) and returns false. */
+    static boolean beginObject(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            in.skipValue();
+            return false;
+        }
+        in.beginObject();
+        return true;
+    }
+
+    static String readString(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case STRING:
+            case NUMBER:
+                return in.nextString();
+            case BOOLEAN:
+                return Boolean.toString(in.nextBoolean());
+            default: // null, or an object/array where a string was expected
+                in.skipValue();
+                return null;
+        }
+    }
+
+    static Integer readInt(JsonReader in) throws IOException {
+        String s = readString(in);
+        if (s == null) return null;
+        try {
+            return Integer.valueOf(s.trim());
+        } catch (NumberFormatException e) {
+            try {
+                return (int) Double.parseDouble(s);
+            } catch (NumberFormatException e2) {
+                return null;
+            }
+        }
+    }
+
+    /** Reads an array of objects with {@code item}; anything else yields an empty list. */
+    static <T> List<T> readList(JsonReader in, TypeAdapter<T> item) throws IOException {
+        List<T> out = new ArrayList<>();
+        if (in.peek() != JsonToken.BEGIN_ARRAY) {
+            in.skipValue();
+            return out;
+        }
+        in.beginArray();
+        while (in.hasNext()) {
+            T t = item.read(in);
+            if (t != null) out.add(t);
+        }
+        in.endArray();
+        return out;
+    }
+
+    // ===== Languages / categories =====
+
+    static final class LanguageAdapter extends TypeAdapter<Language> {
+        @Override public Language read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            Language l = new Language();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":         l.id = readString(in); break;
+                    case "nome":       l.nome = readString(in); break;
+                    case "codigo":     l.codigo = readString(in); break;
+                    case "status":     l.status = readString(in); break;
+                    case "codPais":    l.codPais = readString(in); break;
+                    case "created_at": l.createdAt = readString(in); break;
+                    case "updated_at": l.updatedAt = readString(in); break;
+                    default:           in.skipValue();
+                }
+            }
+            in.endObject();
+            return l;
+        }
+
+        @Override public void write(JsonWriter out, Language l) throws IOException {
+            if (l == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id").value(l.id);
+            out.name("nome").value(l.nome);
+            out.name("codigo").value(l.codigo);
+            out.name("status").value(l.status);
+            out.name("codPais").value(l.codPais);
+            out.name("created_at").value(l.createdAt);
+            out.name("updated_at").value(l.updatedAt);
+            out.endObject();
+        }
+    }
+
+    static final class CategoryItemAdapter extends TypeAdapter<CategoryItem> {
+        @Override public CategoryItem read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            CategoryItem c = new CategoryItem();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":                    c.id = readString(in); break;
+                    case "nome":                  c.nome = readString(in); break;
+                    case "nomeIdioma":            c.nomeIdioma = readString(in); break;
+                    case "descricao":             c.descricao = readString(in); break;
+                    case "textoAlternativo":      c.textoAlternativo = readString(in); break;
+                    case "fluxo":                 c.fluxo = readString(in); break;
+                    case "statusCategoriaIdioma": c.statusCategoriaIdioma = readInt(in); break;
+                    case "codigoBandeira":        c.codigoBandeira = readString(in); break;
+                    case "codigoPais":            c.codigoPais = readString(in); break;
+                    case "arquivoImagem":         c.arquivoImagem = readString(in); break;
+                    default:                      in.skipValue();
+                }
+            }
+            in.endObject();
+            return c;
+        }
+
+        @Override public void write(JsonWriter out, CategoryItem c) throws IOException {
+            if (c == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id").value(c.id);
+            out.name("nome").value(c.nome);
+            out.name("nomeIdioma").value(c.nomeIdioma);
+            out.name("descricao").value(c.descricao);
+            out.name("textoAlternativo").value(c.textoAlternativo);
+            out.name("fluxo").value(c.fluxo);
+            out.name("statusCategoriaIdioma").value(c.statusCategoriaIdioma);
+            out.name("codigoBandeira").value(c.codigoBandeira);
+            out.name("codigoPais").value(c.codigoPais);
+            out.name("arquivoImagem").value(c.arquivoImagem);
+            out.endObject();
+        }
+    }
+
+    // ===== Events (largest payload: 23 fields + nested client) =====
+
+    static final class EventItemAdapter extends TypeAdapter<EventItem> {
+        private final ClientAdapter client = new ClientAdapter();
+
+        @Override public EventItem read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            EventItem e = new EventItem();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":              e.id = readInt(in); break;
+                    case "eventName":       e.eventName = readString(in); break;
+                    case "moreDetails":     e.moreDetails = readString(in); break;
+                    case "status":          e.status = readString(in); break;
+                    case "watchers":        e.watchers = readString(in); break;
+                    case "eventFormat":     e.eventFormat = readString(in); break;
+                    case "exhibitionType":  e.exhibitionType = readString(in); break;
+                    case "publicEventLink": e.publicEventLink = readString(in); break;
+                    case "internalLink":    e.internalLink = readString(in); break;
+                    case "dateStart":       e.dateStart = readString(in); break;
+                    case "dateFinish":      e.dateFinish = readString(in); break;
+                    case "hourStart":       e.hourStart = readString(in); break;
+                    case "hourFinish":      e.hourFinish = readString(in); break;
+                    case "created_at":      e.createdAt = readString(in); break;
+                    case "updated_at":      e.updatedAt = readString(in); break;
+                    case "is_unic":         e.isUnic = readString(in); break;
+                    case "image":           e.image = readString(in); break;
+                    case "image_alt":       e.imageAlt = readString(in); break;
+                    case "lacation_event":  e.lacationEvent = readString(in); break;
+                    case "link":            e.link = readString(in); break;
+                    case "label_link":      e.labelLink = readString(in); break;
+                    case "client_id":       e.clientId = readString(in); break;
+                    case "categoria_id":    e.categoriaId = readString(in); break;
+                    case "client":          e.client = client.read(in); break;
+                    default:                in.skipValue();
+                }
+            }
+            in.endObject();
+            return e;
+        }
+
+        @Override public void write(JsonWriter out, EventItem e) throws IOException {
+            if (e == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id").value(e.id);
+            out.name("eventName").value(e.eventName);
+            out.name("moreDetails").value(e.moreDetails);
+            out.name("status").value(e.status);
+            out.name("watchers").value(e.watchers);
+            out.name("eventFormat").value(e.eventFormat);
+            out.name("exhibitionType").value(e.exhibitionType);
+            out.name("publicEventLink").value(e.publicEventLink);
+            out.name("internalLink").value(e.internalLink);
+            out.name("dateStart").value(e.dateStart);
+            out.name("dateFinish").value(e.dateFinish);
+            out.name("hourStart").value(e.hourStart);
+            out.name("hourFinish").value(e.hourFinish);
+            out.name("created_at").value(e.createdAt);
+            out.name("updated_at").value(e.updatedAt);
+            out.name("is_unic").value(e.isUnic);
+            out.name("image").value(e.image);
+            out.name("image_alt").value(e.imageAlt);
+            out.name("lacation_event").value(e.lacationEvent);
+            out.name("link").value(e.link);
+            out.name("label_link").value(e.labelLink);
+            out.name("client_id").value(e.clientId);
+            out.name("categoria_id").value(e.categoriaId);
+            out.name("client");
+            client.write(out, e.client);
+            out.endObject();
+        }
+    }
+
+    static final class ClientAdapter extends TypeAdapter<EventItem.Client> {
+        @Override public EventItem.Client read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            EventItem.Client c = new EventItem.Client();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":                c.id = readInt(in); break;
+                    case "name":              c.name = readString(in); break;
+                    case "email":             c.email = readString(in); break;
+                    case "email_verified_at": c.emailVerifiedAt = readString(in); break;
+                    case "created_at":        c.createdAt = readString(in); break;
+                    case "updated_at":        c.updatedAt = readString(in); break;
+                    case "isCompany":         c.isCompany = readString(in); break;
+                    case "companyName":       c.companyName = readString(in); break;
+                    case "cpfCnpj":           c.cpfCnpj = readString(in); break;
+                    case "phone":             c.phone = readString(in); break;
+                    case "is_temp":           c.isTemp = readString(in); break;
+                    default:                  in.skipValue();
+                }
+            }
+            in.endObject();
+            return c;
+        }
+
+        @Override public void write(JsonWriter out, EventItem.Client c) throws IOException {
+            if (c == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id").value(c.id);
+            out.name("name").value(c.name);
+            out.name("email").value(c.email);
+            out.name("email_verified_at").value(c.emailVerifiedAt);
+            out.name("created_at").value(c.createdAt);
+            out.name("updated_at").value(c.updatedAt);
+            out.name("isCompany").value(c.isCompany);
+            out.name("companyName").value(c.companyName);
+            out.name("cpfCnpj").value(c.cpfCnpj);
+            out.name("phone").value(c.phone);
+            out.name("is_temp").value(c.isTemp);
+            out.endObject();
+        }
+    }
+
+    // ===== Rooms =====
+
+    static final class RoomItemAdapter extends TypeAdapter<RoomItem> {
+        @Override public RoomItem read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            RoomItem r = new RoomItem();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":              r.id = readInt(in); break;
+                    case "name":            r.name = readString(in); break;
+                    case "description":     r.description = readString(in); break;
+                    case "event_slug_link": r.eventSlugLink = readString(in); break;
+                    case "created_at":      r.createdAt = readString(in); break;
+                    case "updated_at":      r.updatedAt = readString(in); break;
+                    default:                in.skipValue();
+                }
+            }
+            in.endObject();
+            return r;
+        }
+
+        @Override public void write(JsonWriter out, RoomItem r) throws IOException {
+            if (r == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id").value(r.id);
+            out.name("name").value(r.name);
+            out.name("description").value(r.description);
+            out.name("event_slug_link").value(r.eventSlugLink);
+            out.name("created_at").value(r.createdAt);
+            out.name("updated_at").value(r.updatedAt);
+            out.endObject();
+        }
+    }
+
+    static final class RoomsAdapter extends TypeAdapter<RoomsEnvelope> {
+        private final RoomItemAdapter item = new RoomItemAdapter();
+
+        @Override public RoomsEnvelope read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            RoomsEnvelope env = new RoomsEnvelope();
+            while (in.hasNext()) {
+                if ("rooms".equals(in.nextName())) {
+                    env.rooms = readList(in, item).toArray(new RoomItem[0]);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return env;
+        }
+
+        @Override public void write(JsonWriter out, RoomsEnvelope env) throws IOException {
+            if (env == null) { out.nullValue(); return; }
+            out.beginObject();
+            if (env.rooms != null) {
+                out.name("rooms").beginArray();
+                for (RoomItem r : env.rooms) item.write(out, r);
+                out.endArray();
+            }
+            out.endObject();
+        }
+    }
+
+    // ===== Regions =====
+
+    static final class RegionsAdapter extends TypeAdapter<RegionsEnvelope> {
+        private final IdiomaItemAdapter item = new IdiomaItemAdapter();
+
+        @Override public RegionsEnvelope read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            RegionsEnvelope env = new RegionsEnvelope();
+            while (in.hasNext()) {
+                if ("idioma".equals(in.nextName())) {
+                    env.idioma = readList(in, item).toArray(new IdiomaItem[0]);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return env;
+        }
+
+        @Override public void write(JsonWriter out, RegionsEnvelope env) throws IOException {
+            if (env == null) { out.nullValue(); return; }
+            out.beginObject();
+            if (env.idioma != null) {
+                out.name("idioma").beginArray();
+                for (IdiomaItem it : env.idioma) item.write(out, it);
+                out.endArray();
+            }
+            out.endObject();
+        }
+    }
+
+    static final class RegionItemAdapter extends TypeAdapter<RegionItem> {
+        @Override public RegionItem read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            RegionItem r = new RegionItem();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "region_id":   r.id = readString(in); break;
+                    case "region_name": r.name = readString(in); break;
+                    default:            in.skipValue();
+                }
+            }
+            in.endObject();
+            return r;
+        }
+
+        @Override public void write(JsonWriter out, RegionItem r) throws IOException {
+            if (r == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("region_id").value(r.id);
+            out.name("region_name").value(r.name);
+            out.endObject();
+        }
+    }
+
+    static final class IdiomaItemAdapter extends TypeAdapter<IdiomaItem> {
+        @Override public IdiomaItem read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            IdiomaItem it = new IdiomaItem();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":      it.id = readInt(in); break;
+                    case "nome":    it.nome = readString(in); break;
+                    case "codigo":  it.codigo = readString(in); break;
+                    case "status":  it.status = readString(in); break;
+                    case "codPais": it.codPais = readString(in); break;
+                    default:        in.skipValue();
+                }
+            }
+            in.endObject();
+            return it;
+        }
+
+        @Override public void write(JsonWriter out, IdiomaItem it) throws IOException {
+            if (it == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id").value(it.id);
+            out.name("nome").value(it.nome);
+            out.name("codigo").value(it.codigo);
+            out.name("status").value(it.status);
+            out.name("codPais").value(it.codPais);
+            out.endObject();
+        }
+    }
+
+    // /region/{id}: only "idioma" is used, event/room/category subtrees are skipped unread
+    static final class RegionDetailAdapter extends TypeAdapter<RegionDetailEnvelope> {
+        private final IdiomaItemAdapter idioma = new IdiomaItemAdapter();
+
+        @Override public RegionDetailEnvelope read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            RegionDetailEnvelope env = new RegionDetailEnvelope();
+            while (in.hasNext()) {
+                if ("idioma".equals(in.nextName())) {
+                    env.idioma = idioma.read(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return env;
+        }
+
+        @Override public void write(JsonWriter out, RegionDetailEnvelope env) throws IOException {
+            if (env == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("idioma");
+            idioma.write(out, env.idioma);
+            out.endObject();
+        }
+    }
+
+    static final class RegionLanguageItemAdapter extends TypeAdapter<RegionLanguageItem> {
+        @Override public RegionLanguageItem read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            RegionLanguageItem l = new RegionLanguageItem();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":          l.id = readInt(in); break;
+                    case "name":        l.name = readString(in); break;
+                    case "code":        l.code = readString(in); break;
+                    case "codLanguage": l.codLanguage = readString(in); break;
+                    case "created_at":  l.createdAt = readString(in); break;
+                    case "updated_at":  l.updatedAt = readString(in); break;
+                    default:            in.skipValue();
+                }
+            }
+            in.endObject();
+            return l;
+        }
+
+        @Override public void write(JsonWriter out, RegionLanguageItem l) throws IOException {
+            if (l == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id").value(l.id);
+            out.name("name").value(l.name);
+            out.name("code").value(l.code);
+            out.name("codLanguage").value(l.codLanguage);
+            out.name("created_at").value(l.createdAt);
+            out.name("updated_at").value(l.updatedAt);
+            out.endObject();
+        }
+    }
+
+    static final class RegionLanguagesAdapter extends TypeAdapter<RegionLanguagesEnvelope> {
+        private final RegionLanguageItemAdapter item = new RegionLanguageItemAdapter();
+
+        @Override public RegionLanguagesEnvelope read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            RegionLanguagesEnvelope env = new RegionLanguagesEnvelope();
+            while (in.hasNext()) {
+                if ("language".equals(in.nextName())) {
+                    env.language = readList(in, item).toArray(new RegionLanguageItem[0]);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return env;
+        }
+
+        @Override public void write(JsonWriter out, RegionLanguagesEnvelope env) throws IOException {
+            if (env == null) { out.nullValue(); return; }
+            out.beginObject();
+            if (env.language != null) {
+                out.name("language").beginArray();
+                for (RegionLanguageItem l : env.language) item.write(out, l);
+                out.endArray();
+            }
+            out.endObject();
+        }
+    }
+
+    // ===== Accessibilities / professional / channel =====
+
+    static final class AccessibilityItemAdapter extends TypeAdapter<AccessibilityItem> {
+        @Override public AccessibilityItem read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            AccessibilityItem a = new AccessibilityItem();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":              a.id = readInt(in); break;
+                    case "name":            a.name = readString(in); break;
+                    case "image_link":      a.imageLink = readString(in); break;
+                    case "alt_image":       a.altImage = readString(in); break;
+                    case "type_channel_id": a.typeChannelId = readString(in); break;
+                    case "link":            a.link = readString(in); break;
+                    default:                in.skipValue();
+                }
+            }
+            in.endObject();
+            return a;
+        }
+
+        @Override public void write(JsonWriter out, AccessibilityItem a) throws IOException {
+            if (a == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id").value(a.id);
+            out.name("name").value(a.name);
+            out.name("image_link").value(a.imageLink);
+            out.name("alt_image").value(a.altImage);
+            out.name("type_channel_id").value(a.typeChannelId);
+            out.name("link").value(a.link);
+            out.endObject();
+        }
+    }
+
+    static final class AccessibilitiesAdapter extends TypeAdapter<AccessibilitiesEnvelope> {
+        private final AccessibilityItemAdapter item = new AccessibilityItemAdapter();
+
+        @Override public AccessibilitiesEnvelope read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            AccessibilitiesEnvelope env = new AccessibilitiesEnvelope();
+            while (in.hasNext()) {
+                if ("accessibility".equals(in.nextName())) {
+                    env.accessibility = readList(in, item).toArray(new AccessibilityItem[0]);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return env;
+        }
+
+        @Override public void write(JsonWriter out, AccessibilitiesEnvelope env) throws IOException {
+            if (env == null) { out.nullValue(); return; }
+            out.beginObject();
+            if (env.accessibility != null) {
+                out.name("accessibility").beginArray();
+                for (AccessibilityItem a : env.accessibility) item.write(out, a);
+                out.endArray();
+            }
+            out.endObject();
+        }
+    }
+
+    static final class ProfessionalItemAdapter extends TypeAdapter<ProfessionalItem> {
+        @Override public ProfessionalItem read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            ProfessionalItem p = new ProfessionalItem();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":   p.id = readInt(in); break;
+                    case "name": p.name = readString(in); break;
+                    default:     in.skipValue();
+                }
+            }
+            in.endObject();
+            return p;
+        }
+
+        @Override public void write(JsonWriter out, ProfessionalItem p) throws IOException {
+            if (p == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id").value(p.id);
+            out.name("name").value(p.name);
+            out.endObject();
+        }
+    }
+
+    static final class AccessibilityDetailAdapter extends TypeAdapter<AccessibilityDetailEnvelope> {
+        private final ProfessionalItemAdapter professional = new ProfessionalItemAdapter();
+
+        @Override public AccessibilityDetailEnvelope read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            AccessibilityDetailEnvelope env = new AccessibilityDetailEnvelope();
+            while (in.hasNext()) {
+                if ("professional".equals(in.nextName())) {
+                    env.professional = professional.read(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return env;
+        }
+
+        @Override public void write(JsonWriter out, AccessibilityDetailEnvelope env) throws IOException {
+            if (env == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("professional");
+            professional.write(out, env.professional);
+            out.endObject();
+        }
+    }
+
+    static final class ChannelInfoAdapter extends TypeAdapter<ChannelInfo> {
+        private final AccessibilityItemAdapter accessibility = new AccessibilityItemAdapter();
+
+        @Override public ChannelInfo read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            ChannelInfo ch = new ChannelInfo();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id_app":        ch.appId = readString(in); break;
+                    case "token":         ch.token = readString(in); break;
+                    case "channel_name":  ch.channelName = readString(in); break;
+                    case "id_channel":    ch.idChannel = readString(in); break;
+                    case "accessibility": ch.accessibility = accessibility.read(in); break;
+                    default:              in.skipValue();
+                }
+            }
+            in.endObject();
+            return ch;
+        }
+
+        @Override public void write(JsonWriter out, ChannelInfo ch) throws IOException {
+            if (ch == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("id_app").value(ch.appId);
+            out.name("token").value(ch.token);
+            out.name("channel_name").value(ch.channelName);
+            out.name("id_channel").value(ch.idChannel);
+            out.name("accessibility");
+            accessibility.write(out, ch.accessibility);
+            out.endObject();
+        }
+    }
+
+    static final class ChannelAdapter extends TypeAdapter<ChannelEnvelope> {
+        private final ChannelInfoAdapter channel = new ChannelInfoAdapter();
+
+        @Override public ChannelEnvelope read(JsonReader in) throws IOException {
+            if (!beginObject(in)) return null;
+            ChannelEnvelope env = new ChannelEnvelope();
+            while (in.hasNext()) {
+                if ("channel".equals(in.nextName())) {
+                    env.channel = channel.read(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return env;
+        }
+
+        @Override public void write(JsonWriter out, ChannelEnvelope env) throws IOException {
+            if (env == null) { out.nullValue(); return; }
+            out.beginObject();
+            out.name("channel");
+            channel.write(out, env.channel);
+            out.endObject();
+        }
+    }
+}
@@ -2,27 +2,26 @@
 package com.example.beplay_v3;
 
 import android.Manifest;
-import android.annotation.SuppressLint;
 import android.content.ActivityNotFoundException;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.provider.Settings;
 import android.util.Log;
 import android.util.Size;
+import android.view.View;
 import android.widget.TextView;
 import android.widget.Toast;
 
-import androidx.annotation.OptIn;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.camera.core.Camera;
 import androidx.camera.core.CameraControl;
 import androidx.camera.core.CameraInfo;
 import androidx.camera.core.CameraSelector;
-import androidx.camera.core.ExperimentalGetImage;
 import androidx.camera.core.ImageAnalysis;
 import androidx.camera.core.ImageProxy;
 import androidx.camera.core.Preview;
@@ -38,6 +37,8 @@ import com.google.mlkit.vision.barcode.BarcodeScanning;
 import com.google.mlkit.vision.barcode.common.Barcode;
 import com.google.mlkit.vision.common.InputImage;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -46,6 +47,9 @@ public class BarcodeScannerActivity extends AppCompatActivity {
 
     private static final String TAG = "BarcodeScannerActivity";
     private static final int REQ_PERMISSIONS = 500;
+    private static final int SCAN_LOG_EVERY = 60; // analyzed frames between pipeline stats log lines
+    private static final int WARMUP_SIDE = 64;    // synthetic frame that loads the detector model
+    private static final long REJECTION_TOAST_EVERY_MS = 3_000L;
 
     private static final String[] REQUIRED_PERMISSIONS = new String[] {
             Manifest.permission.CAMERA,
@@ -53,12 +57,24 @@ public class BarcodeScannerActivity extends AppCompatActivity {
     };
 
     private PreviewView previewView;
+    private View reticle;
     private TextView btnBack, btnTorch;
 
     private ExecutorService cameraExecutor;
+    private ListenableFuture<ProcessCameraProvider> cameraProviderFuture;
+    private volatile long cameraStartedAt; // permission granted (or already held) -> first analyzed frame
     private BarcodeScanner scanner;
 
+    // ===== QR window: only the reticle area is decoded (see ScanWindow) =====
+    private final ScanWindow window = new ScanWindow();
+    private final ScanStats stats = new ScanStats();
+    private volatile int previewW, previewH, reticlePx; // read on the analysis thread
+
     private volatile boolean resultSent = false;
+    private volatile String pendingLink; // channel QR scanned before the access QR
+    private boolean validating = false;  // an access code is being checked (main thread)
+    private String lastRejection;        // last reason toasted, and when: a bad code held up
+    private long lastRejectionAt;        // to the camera is not toasted on every frame
     private Camera camera;
     private CameraControl cameraControl;
     private CameraInfo cameraInfo;
@@ -72,9 +88,21 @@ public class BarcodeScannerActivity extends AppCompatActivity {
         previewView = findViewById(R.id.previewView);
         btnBack     = findViewById(R.id.btnBack);
         btnTorch    = findViewById(R.id.btnTorch);
+        reticle     = findViewById(R.id.reticle);
+
+        // Where the reticle sits over the preview, for the analysis window
+        previewView.addOnLayoutChangeListener((v, l, t, r, b, ol, ot, or, ob) -> {
+            previewW  = v.getWidth();
+            previewH  = v.getHeight();
+            reticlePx = reticle.getWidth();
+        });
+
+        // SurfaceView preview; PreviewView itself falls back to a TextureView where the device
+        // needs one (API 24 and lower, LEGACY camera hardware, known black-preview quirks)
+        previewView.setImplementationMode(PreviewView.ImplementationMode.PERFORMANCE);
 
-        // Prevent black preview on some devices
-        previewView.setImplementationMode(PreviewView.ImplementationMode.COMPATIBLE);
+        // Start connecting to the camera service now; needs no permission, and overlaps the dialog
+        cameraProviderFuture = ProcessCameraProvider.getInstance(this);
 
         btnBack.setOnClickListener(v -> {
             setResult(RESULT_CANCELED);
@@ -84,23 +112,16 @@ public class BarcodeScannerActivity extends AppCompatActivity {
 
         cameraExecutor = Executors.newSingleThreadExecutor();
 
+        // Access and channel codes are always QR: one symbology to look for, not twelve
         BarcodeScannerOptions options =
                 new BarcodeScannerOptions.Builder()
-                        .setBarcodeFormats(
-                                Barcode.FORMAT_QR_CODE,
-                                Barcode.FORMAT_AZTEC,
-                                Barcode.FORMAT_DATA_MATRIX,
-                                Barcode.FORMAT_PDF417,
-                                Barcode.FORMAT_CODE_128,
-                                Barcode.FORMAT_CODE_39,
-                                Barcode.FORMAT_CODE_93,
-                                Barcode.FORMAT_CODABAR,
-                                Barcode.FORMAT_EAN_13,
-                                Barcode.FORMAT_EAN_8,
-                                Barcode.FORMAT_UPC_A,
-                                Barcode.FORMAT_UPC_E)
+                        .setBarcodeFormats(Barcode.FORMAT_QR_CODE)
                         .build();
         scanner = BarcodeScanning.getClient(options);
+        warmUpScanner();
+
+        // Firebase starts now, not after the first decode
+        AccessValidator.get(this);
 
         // 🔐 Ask for Camera + Mic at first app open
         if (allPermissionsGranted()) {
@@ -201,23 +222,16 @@ public class BarcodeScannerActivity extends AppCompatActivity {
     }
 
     private void startCamera() {
-        ListenableFuture<ProcessCameraProvider> cameraProviderFuture =
-                ProcessCameraProvider.getInstance(this);
-
+        cameraStartedAt = SystemClock.elapsedRealtime();
         cameraProviderFuture.addListener(() -> {
             try {
                 ProcessCameraProvider provider = cameraProviderFuture.get();
 
                 // Prefer back; fallback to front on emulators without back camera
-                CameraSelector back = new CameraSelector.Builder()
-                        .requireLensFacing(CameraSelector.LENS_FACING_BACK).build();
-                CameraSelector front = new CameraSelector.Builder()
-                        .requireLensFacing(CameraSelector.LENS_FACING_FRONT).build();
-
-                if (isAvailable(provider, back)) {
-                    bindUseCases(provider, back);
-                } else if (isAvailable(provider, front)) {
-                    bindUseCases(provider, front);
+                if (provider.hasCamera(CameraSelector.DEFAULT_BACK_CAMERA)) {
+                    bindUseCases(provider, CameraSelector.DEFAULT_BACK_CAMERA);
+                } else if (provider.hasCamera(CameraSelector.DEFAULT_FRONT_CAMERA)) {
+                    bindUseCases(provider, CameraSelector.DEFAULT_FRONT_CAMERA);
                     Toast.makeText(this, "Using front camera", Toast.LENGTH_SHORT).show();
                 } else {
                     Toast.makeText(this, "No camera available", Toast.LENGTH_LONG).show();
@@ -231,16 +245,6 @@ public class BarcodeScannerActivity extends AppCompatActivity {
         }, ContextCompat.getMainExecutor(this));
     }
 
-    private boolean isAvailable(ProcessCameraProvider provider, CameraSelector selector) {
-        try {
-            provider.bindToLifecycle(this, selector);
-            provider.unbindAll();
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     private void bindUseCases(ProcessCameraProvider provider, CameraSelector selector) {
         provider.unbindAll();
 
@@ -264,23 +268,48 @@ public class BarcodeScannerActivity extends AppCompatActivity {
         }
     }
 
-    @OptIn(markerClass = ExperimentalGetImage.class)
-    @SuppressLint("UnsafeOptInUsageError")
+    // Decodes only the reticle window of the frame's luma plane, at the resolution ScanWindow picks.
+    // The window buffer is reused, so the frame is closed (letting the next one in) only once
+    // the decode is done.
     private void analyzeImage(ImageProxy imageProxy) {
         if (resultSent) { imageProxy.close(); return; }
         try {
-            if (imageProxy.getImage() == null) { imageProxy.close(); return; }
-
-            InputImage image = InputImage.fromMediaImage(
-                    imageProxy.getImage(), imageProxy.getImageInfo().getRotationDegrees());
+            long start = SystemClock.elapsedRealtimeNanos();
+            if (cameraStartedAt != 0) {
+                Log.i(TAG, "First frame analyzed " + (start / 1_000_000 - cameraStartedAt) + " ms after camera permission");
+                cameraStartedAt = 0;
+            }
+            long sensorNs = imageProxy.getImageInfo().getTimestamp();
+            stats.onFrame(sensorNs);
+            // Only meaningful when the sensor clock is elapsedRealtime; other clocks give nonsense, skipped
+            long acquireNs = start - sensorNs;
+            if (acquireNs >= 0 && acquireNs < 1_000_000_000L) stats.record(ScanStats.Stage.ACQUIRE, acquireNs / 1_000_000);
+
+            int rotation = imageProxy.getImageInfo().getRotationDegrees();
+            int w = imageProxy.getWidth(), h = imageProxy.getHeight();
+            ImageProxy.PlaneProxy luma = imageProxy.getPlanes()[0];
+
+            int side = ScanWindow.side(w, h, rotation, previewW, previewH, reticlePx);
+            ByteBuffer y = luma.getBuffer();
+            byte[] nv21 = window.crop(y, luma.getRowStride(), luma.getPixelStride(), w, h, side, window.step());
+            long cropped = SystemClock.elapsedRealtimeNanos();
+            stats.record(ScanStats.Stage.WINDOW, (cropped - start) / 1_000_000);
+
+            InputImage image = InputImage.fromByteArray(
+                    nv21, window.width(), window.height(), rotation, InputImage.IMAGE_FORMAT_NV21);
+            long detectStart = SystemClock.elapsedRealtimeNanos();
+            stats.record(ScanStats.Stage.INPUT, (detectStart - cropped) / 1_000_000);
 
             scanner.process(image)
                     .addOnSuccessListener(barcodes -> {
-                        if (barcodes == null || barcodes.isEmpty()) { imageProxy.close(); return; }
+                        boolean found = barcodes != null && !barcodes.isEmpty();
+                        onFrameDecoded(detectStart, found);
+                        if (!found) { imageProxy.close(); return; }
                         handleBarcodes(barcodes, imageProxy);
                     })
                     .addOnFailureListener(e -> {
                         Log.e(TAG, "Scanner error", e);
+                        onFrameDecoded(detectStart, false);
                         imageProxy.close();
                     });
         } catch (Exception e) {
@@ -289,6 +318,29 @@ public class BarcodeScannerActivity extends AppCompatActivity {
         }
     }
 
+    // Detector latency; the whole pipeline's histograms are logged every SCAN_LOG_EVERY frames
+    private void onFrameDecoded(long detectStart, boolean found) {
+        window.onResult(found);
+        stats.record(ScanStats.Stage.DETECT, (SystemClock.elapsedRealtimeNanos() - detectStart) / 1_000_000);
+        if (stats.analyzed() % SCAN_LOG_EVERY == 0) {
+            Log.d(TAG, "QR scan " + stats.summary() + "; step " + window.step());
+        }
+    }
+
+    // The first process() call loads the detector model. Pay that with a blank synthetic frame
+    // while the camera is still starting, not on the first frame the user holds a code up to.
+    private void warmUpScanner() {
+        cameraExecutor.execute(() -> {
+            long start = SystemClock.elapsedRealtime();
+            byte[] blank = new byte[WARMUP_SIDE * WARMUP_SIDE * 3 / 2];
+            Arrays.fill(blank, (byte) 128);
+            InputImage image = InputImage.fromByteArray(
+                    blank, WARMUP_SIDE, WARMUP_SIDE, 0, InputImage.IMAGE_FORMAT_NV21);
+            scanner.process(image).addOnCompleteListener(t ->
+                    Log.i(TAG, "Detector warmed up in " + (SystemClock.elapsedRealtime() - start) + " ms"));
+        });
+    }
+
     private void handleBarcodes(List<Barcode> barcodes, ImageProxy imageProxy) {
         try {
             for (Barcode b : barcodes) {
@@ -296,11 +348,43 @@ public class BarcodeScannerActivity extends AppCompatActivity {
                 if (raw == null || raw.trim().isEmpty()) continue;
 
                 if (!resultSent) {
-                    resultSent = true;
-                    Intent i = new Intent(this, QRScannerActivity.class);
-                    i.putExtra("BARCODE_VALUE", raw);
-                    startActivity(i);
-                    runOnUiThread(this::finish);
+                    // Channel QR: skip the catalog screens and resolve straight to the call
+                    if (DeepLink.parse(raw) != null) {
+                        if (!hasValidSession()) {
+                            // Remember it and open it right after the access QR is verified
+                            if (!raw.equals(pendingLink)) {
+                                pendingLink = raw;
+                                runOnUiThread(() -> Toast.makeText(this,
+                                        "Scan your access QR code first", Toast.LENGTH_SHORT).show());
+                            }
+                            continue;
+                        }
+                        resultSent = true;
+                        Intent i = new Intent(this, DeepLinkActivity.class);
+                        i.putExtra(DeepLinkActivity.EXTRA_LINK, raw);
+                        startActivity(i);
+                        runOnUiThread(this::finish);
+                        break;
+                    }
+
+                    // Access QR: checked here while the camera keeps running; one lookup at a time
+                    if (validating) continue;
+                    validating = true;
+                    AccessValidator.get(this).validate(raw, new AccessValidator.Callback() {
+                        @Override public void onValid(String userId, long expiryMs) {
+                            validating = false;
+                            if (resultSent || isFinishing()) return;
+                            resultSent = true;
+                            SessionManager.get(BarcodeScannerActivity.this).createLoginSession(userId, expiryMs);
+                            Toast.makeText(BarcodeScannerActivity.this, "QR verified", Toast.LENGTH_SHORT).show();
+                            enterApp();
+                        }
+
+                        @Override public void onRejected(String reason) {
+                            validating = false;
+                            showRejection(reason);
+                        }
+                    });
                     break;
                 }
             }
@@ -309,6 +393,35 @@ public class BarcodeScannerActivity extends AppCompatActivity {
         }
     }
 
+    // Signed in: straight to the pending channel or the language list, no splash in between.
+    // The language list and the API connection are fetched alongside the screen starting.
+    private void enterApp() {
+        BePlayApi api = BePlayApi.get(this);
+        api.warmUp(() -> {});
+        CatalogRepository.get(this).prefetch(api.service().languages(), Language.class, langs -> langs);
+        SpeechService.get(this).prewarm(Arrays.asList("Choose language", "Selected item"), 0.9f, 0.9f);
+
+        String link = pendingLink;
+        Intent next = link != null
+                ? new Intent(this, DeepLinkActivity.class).putExtra(DeepLinkActivity.EXTRA_LINK, link)
+                : new Intent(this, MainActivity.class);
+        startActivity(next.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK));
+        finish();
+    }
+
+    private void showRejection(String reason) {
+        long now = SystemClock.elapsedRealtime();
+        if (reason.equals(lastRejection) && now - lastRejectionAt < REJECTION_TOAST_EVERY_MS) return;
+        lastRejection = reason;
+        lastRejectionAt = now;
+        Toast.makeText(this, reason, Toast.LENGTH_SHORT).show();
+    }
+
+    private boolean hasValidSession() {
+        SessionManager session = SessionManager.get(this);
+        return session.isQRAuthenticated() && !session.isQRExpired();
+    }
+
     @Override
     protected void onDestroy() {
         if (cameraExecutor != null) cameraExecutor.shutdown();
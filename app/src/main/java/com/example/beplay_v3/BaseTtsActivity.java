@@ -2,8 +2,6 @@ package com.example.beplay_v3;
 
 import android.os.Build;
 import android.os.Bundle;
-import android.speech.tts.TextToSpeech;
-import android.speech.tts.UtteranceProgressListener;
 import android.view.View;
 import android.widget.TextView;
 import android.widget.Toast;
@@ -11,38 +9,27 @@ import android.widget.Toast;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
-import java.util.Locale;
-
 public abstract class BaseTtsActivity extends AppCompatActivity {
 
-    protected TextToSpeech tts;
+    protected SpeechService.Handle tts;
     protected boolean introFinished = false;
 
-    protected View lastSpokenView = null;
-    protected long lastSpeakMillis = 0L;
-
     private static final String INTRO_UTTERANCE_ID = "tts_intro_msg";
 
     /**
      * Call this in onCreate() from child activities.
+     * The engine is shared by the whole app (see SpeechService), so the intro usually starts immediately.
      * @param introText Text to speak once when the screen opens. Pass null for no intro.
      */
     protected void initTts(@Nullable String introText) {
-        tts = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                tts.setLanguage(Locale.US);
-                tts.setSpeechRate(0.9f);
-                tts.setPitch(0.9f);
-
-                tts.setOnUtteranceProgressListener(new UtteranceProgressListener() {
-                    @Override
-                    public void onStart(String utteranceId) { }
-
+        tts = SpeechService.get(this).attach(this)
+                .setVoice(0.9f, 0.9f)
+                .setListener(new SpeechService.Listener() {
                     @Override
                     public void onDone(String utteranceId) {
                         if (INTRO_UTTERANCE_ID.equals(utteranceId)) {
                             introFinished = true;
-                            runOnUiThread(() -> onTtsIntroFinished());
+                            onTtsIntroFinished();
                         }
                     }
 
@@ -52,12 +39,9 @@ public abstract class BaseTtsActivity extends AppCompatActivity {
                     }
                 });
 
-                if (introText != null && !introText.trim().isEmpty()) {
-                    speakWithId(introText, INTRO_UTTERANCE_ID);
-                } else {
-                    introFinished = true;
-                    onTtsIntroFinished();
-                }
+        tts.whenReady(ok -> {
+            if (ok) {
+                speakIntro(introText);
             } else {
                 introFinished = true;
                 Toast.makeText(this, "Text-to-Speech initialization failed", Toast.LENGTH_SHORT).show();
@@ -65,6 +49,20 @@ public abstract class BaseTtsActivity extends AppCompatActivity {
         });
     }
 
+    /**
+     * Speaks a screen intro; focus labels stay quiet until it is done, then
+     * {@link #onTtsIntroFinished()} runs. Used again by screens that swap their content in place.
+     */
+    protected void speakIntro(@Nullable String introText) {
+        if (introText != null && !introText.trim().isEmpty() && tts.isReady()) {
+            introFinished = false;
+            tts.say(introText, INTRO_UTTERANCE_ID, SpeechPriority.INTRO);
+        } else {
+            introFinished = true;
+            onTtsIntroFinished();
+        }
+    }
+
     /**
      * Called when the intro phrase is finished.
      * Child activities can override this (e.g., to speak the focused item).
@@ -75,47 +73,34 @@ public abstract class BaseTtsActivity extends AppCompatActivity {
 
     protected void speakWithId(String text, String id) {
         if (tts == null || text == null) return;
-        text = text.trim();
-        if (text.isEmpty()) return;
-
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-            tts.speak(text, TextToSpeech.QUEUE_FLUSH, null, id);
-        } else {
-            tts.speak(text, TextToSpeech.QUEUE_FLUSH, null);
-        }
+        tts.speak(text, id);
     }
 
     protected void speakText(String text) {
         if (tts == null || text == null) return;
-        text = text.trim();
-        if (text.isEmpty()) return;
+        tts.speak(text, "GENERIC_TTS");
+    }
+
+    /** Errors and missing data: not cut off by focus speech. */
+    protected void speakAlert(String text) {
+        if (tts == null || text == null) return;
+        tts.say(text, "ALERT_TTS", SpeechPriority.ALERT);
+    }
 
-        if (tts.isSpeaking()) {
-            tts.stop();
-        }
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-            tts.speak(text, TextToSpeech.QUEUE_FLUSH, null, "GENERIC_TTS");
-        } else {
-            tts.speak(text, TextToSpeech.QUEUE_FLUSH, null);
-        }
+    /** Labels are spoken on focus; rendering them ahead of time lets them play from the clip cache. */
+    protected void prewarmSpeech(String text) {
+        if (tts == null || text == null) return;
+        tts.prewarm(text);
     }
 
     /**
      * Generic helper: speak label from any TextView/Button when it gets focus.
-     * Uses lastSpokenView + lastSpeakMillis to avoid repeating too often.
+     * Fast scrolling is collapsed to the last label by the speech scheduler.
      */
     protected void speakViewLabel(View v, @Nullable String fallbackLabel) {
         if (!introFinished || v == null) return;
         if (tts == null) return;
 
-        long now = System.currentTimeMillis();
-        if (v == lastSpokenView && (now - lastSpeakMillis) <= 800) {
-            return; // avoid spam
-        }
-
-        lastSpokenView = v;
-        lastSpeakMillis = now;
-
         String label = null;
         if (v instanceof TextView) {
             CharSequence cs = ((TextView) v).getText();
@@ -128,19 +113,30 @@ public abstract class BaseTtsActivity extends AppCompatActivity {
             label = (fallbackLabel != null) ? fallbackLabel.trim() : null;
         }
 
-        if (label != null && !label.isEmpty()) {
-            speakText(label);
+        if (label == null || label.isEmpty()) label = "Selected item";
+        tts.say(label, "FOCUS_TTS", SpeechPriority.FOCUS);
+    }
+
+    /** Focus ripple for a plain button, e.g. Back (list rows are highlighted by ButtonList). */
+    protected void triggerRipple(View v) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            float cx = v.getWidth() / 2f;
+            float cy = v.getHeight() / 2f;
+            v.drawableHotspotChanged(cx, cy);
+            v.setPressed(true);
+            v.postDelayed(() -> v.setPressed(false), 200);
         } else {
-            speakText("Selected item");
+            v.animate().alpha(0.9f).setDuration(100)
+                    .withEndAction(() -> v.animate().alpha(1f).setDuration(120));
         }
     }
 
+    /** "find" (KEYCODE_SEARCH) from any list screen opens the catalog search. */
     @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-        }
+    public boolean onSearchRequested() {
+        FindActivity.open(this);
+        return true;
     }
+
+    // The handle releases itself (and stops this screen's speech) on destroy; the engine stays up
 }
@@ -0,0 +1,143 @@
+package com.example.beplay_v3;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cache;
+import okhttp3.CacheControl;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * Process-wide BePlay API client.
+ * One connection pool + one dispatcher for every screen, so drilling down the
+ * catalog reuses the warm (HTTP/2) connection to console.beplay.io instead of
+ * paying a new TLS handshake per activity.
+ */
+public final class BePlayApi {
+
+    private static final String TAG = "BePlayApi";
+
+    public static final String HOST     = "console.beplay.io";
+    public static final String BASE_URL = "https://" + HOST + "/api/";
+
+    // All traffic goes to a single host; HTTP/2 multiplexes over one socket,
+    // the spare idle slots cover HTTP/1.1 fallback on captive venue proxies.
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final long KEEP_ALIVE_MINUTES  = 5;
+
+    // Bounded on-disk HTTP cache for the catalog (LRU-evicted by OkHttp)
+    private static final long HTTP_CACHE_BYTES = 10L * 1024 * 1024;
+
+    // The API host's address rarely changes; reuse it across screens, keep it if a refresh fails
+    private static final long DNS_TTL_MS   = TimeUnit.MINUTES.toMillis(5);
+    private static final long DNS_STALE_MS = TimeUnit.MINUTES.toMillis(30);
+
+    private static volatile BePlayApi instance;
+
+    private final OkHttpClient client;
+    private final Gson gson;
+    private final Gson prettyGson;
+    private final BePlayService service;
+    private final FetchPolicy policy = new FetchPolicy();
+
+    private BePlayApi(Context appContext) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(16);
+        dispatcher.setMaxRequestsPerHost(8);
+
+        client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .dns(new CachingDns(CachingDns.system(), DNS_TTL_MS, DNS_STALE_MS, SystemClock::elapsedRealtime))
+                .cache(new Cache(new File(appContext.getCacheDir(), "http"), HTTP_CACHE_BYTES))
+                .addNetworkInterceptor(new CatalogCacheInterceptor())
+                .connectTimeout(10, TimeUnit.SECONDS)
+                .readTimeout(15, TimeUnit.SECONDS)
+                .build();
+
+        // Streaming, hand-written adapters (see ApiJson)
+        gson = ApiJson.register(new GsonBuilder()).create();
+        prettyGson = gson.newBuilder().setPrettyPrinting().create();
+
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(BASE_URL)
+                .client(client)
+                .addCallAdapterFactory(new ApiCallAdapterFactory(client, policy))
+                .addConverterFactory(GsonConverterFactory.create(gson))
+                .build();
+        service = retrofit.create(BePlayService.class);
+    }
+
+    public static BePlayApi get(Context ctx) {
+        BePlayApi local = instance;
+        if (local == null) {
+            synchronized (BePlayApi.class) {
+                local = instance;
+                if (local == null) {
+                    local = new BePlayApi(ctx.getApplicationContext());
+                    instance = local;
+                }
+            }
+        }
+        return local;
+    }
+
+    /** Shared OkHttp client (for the legacy screens that still build raw requests). */
+    public OkHttpClient client() { return client; }
+
+    /** Shared Gson used by the Retrofit converter. */
+    public Gson gson() { return gson; }
+
+    /** Same adapters, pretty-printed (debug screens that dump the raw payload). */
+    public Gson prettyGson() { return prettyGson; }
+
+    /**
+     * Resolves the API host (into the DNS cache) and opens a TLS connection that stays in
+     * the pool for {@link #KEEP_ALIVE_MINUTES}, so the first real request skips both.
+     * Safe to call from the main thread; {@code onDone} runs on an OkHttp thread once the
+     * attempt is over, successful or not.
+     */
+    public void warmUp(Runnable onDone) {
+        Request head = new Request.Builder()
+                .url(BASE_URL)
+                .head()
+                .cacheControl(CacheControl.FORCE_NETWORK)
+                .build();
+        client.newCall(head).enqueue(new Callback() {
+            @Override public void onFailure(Call call, IOException e) {
+                Log.d(TAG, "warm-up failed: " + e.getMessage());
+                onDone.run();
+            }
+
+            @Override public void onResponse(Call call, Response response) {
+                response.close(); // status does not matter, the connection is pooled now
+                onDone.run();
+            }
+        });
+    }
+
+    /** Typed service for the /api/idiomas/... hierarchy. */
+    public BePlayService service() { return service; }
+
+    /** Retry/hedge/breaker policy; ApiCall endpoints already run under it, plain Calls use {@link FetchPolicy#enqueue}. */
+    public FetchPolicy policy() { return policy; }
+}
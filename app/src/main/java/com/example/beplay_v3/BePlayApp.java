@@ -0,0 +1,26 @@
+package com.example.beplay_v3;
+
+import android.app.Application;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/** Owns the process-wide services so they start with the process, not with the first screen. */
+public class BePlayApp extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        // Bind the TTS engine now; by the time a screen wants its intro, onInit has long fired
+        SpeechService speech = SpeechService.get(this);
+        // Registers the shared "back" phrase off the main thread, once per process
+        VoicePhraseRegistry.get(this);
+
+        // Prompts every session hears; rendered once, then played from the clip cache
+        speech.prewarm(Arrays.asList(
+                "Choose language", "Choose category", "Choose event", "Choose room",
+                "Choose region", "Choose accessibility", "Choose professional",
+                "Join channel", "Call screen", "Back", "Selected item"), 0.9f, 0.9f);
+        speech.prewarm(Collections.singletonList("Welcome to BePlay"), 1.0f, 1.0f);
+    }
+}
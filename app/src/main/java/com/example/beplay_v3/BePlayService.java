@@ -0,0 +1,76 @@
+package com.example.beplay_v3;
+
+import retrofit2.Call;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+
+/**
+ * Retrofit view of the catalog hierarchy:
+ * /idiomas/{codPais}/categoria/{categoryId}/event/{eventId}/room/{roomId}
+ *         /region/{regionId}/idioma/{languageId}/accessibility/{accessibilityId}/professional/{professionalId}
+ *
+ * Catalog levels return {@link ApiCall} (disk cache + background revalidation);
+ * the professional endpoint carries channel tokens and always goes to the network.
+ */
+public interface BePlayService {
+
+    @GET("idiomas")
+    ApiCall<Language[]> languages();
+
+    // The API expects the literal "undefined" segment for the category list
+    @GET("idiomas/{codPais}/categoria/undefined")
+    ApiCall<CategoryItem[]> categories(@Path("codPais") String codPais);
+
+    @GET("idiomas/{codPais}/categoria/{categoryId}/events")
+    ApiCall<EventItem[]> events(@Path("codPais") String codPais,
+                                @Path("categoryId") String categoryId);
+
+    @GET("idiomas/{codPais}/categoria/{categoryId}/event/{eventId}/rooms")
+    ApiCall<RoomsEnvelope> rooms(@Path("codPais") String codPais,
+                                 @Path("categoryId") String categoryId,
+                                 @Path("eventId") String eventId);
+
+    @GET("idiomas/{codPais}/categoria/{categoryId}/event/{eventId}/room/{roomId}/regions")
+    ApiCall<RegionsEnvelope> regions(@Path("codPais") String codPais,
+                                     @Path("categoryId") String categoryId,
+                                     @Path("eventId") String eventId,
+                                     @Path("roomId") String roomId);
+
+    // { "language": [ { "id", "name", ... } ] }
+    @GET("idiomas/{codPais}/categoria/{categoryId}/event/{eventId}/room/{roomId}/region/{regionId}/idiomas")
+    ApiCall<RegionLanguagesEnvelope> regionLanguages(@Path("codPais") String codPais,
+                                                     @Path("categoryId") String categoryId,
+                                                     @Path("eventId") String eventId,
+                                                     @Path("roomId") String roomId,
+                                                     @Path("regionId") String regionId);
+
+    // { "accessibility": [ { "id", "name", ... } ] }
+    @GET("idiomas/{codPais}/categoria/{categoryId}/event/{eventId}/room/{roomId}/region/{regionId}/idioma/{languageId}/accessibilities")
+    ApiCall<AccessibilitiesEnvelope> accessibilities(@Path("codPais") String codPais,
+                                                     @Path("categoryId") String categoryId,
+                                                     @Path("eventId") String eventId,
+                                                     @Path("roomId") String roomId,
+                                                     @Path("regionId") String regionId,
+                                                     @Path("languageId") String languageId);
+
+    // { "professional": { "id", "name", ... } }
+    @GET("idiomas/{codPais}/categoria/{categoryId}/event/{eventId}/room/{roomId}/region/{regionId}/idioma/{languageId}/accessibility/{accessibilityId}")
+    ApiCall<AccessibilityDetailEnvelope> accessibility(@Path("codPais") String codPais,
+                                                       @Path("categoryId") String categoryId,
+                                                       @Path("eventId") String eventId,
+                                                       @Path("roomId") String roomId,
+                                                       @Path("regionId") String regionId,
+                                                       @Path("languageId") String languageId,
+                                                       @Path("accessibilityId") String accessibilityId);
+
+    // { "channel": { "id_app", "token", "channel_name", "accessibility": { ... } } }
+    @GET("idiomas/{codPais}/categoria/{categoryId}/event/{eventId}/room/{roomId}/region/{regionId}/idioma/{languageId}/accessibility/{accessibilityId}/professional/{professionalId}")
+    Call<ChannelEnvelope> professional(@Path("codPais") String codPais,
+                                       @Path("categoryId") String categoryId,
+                                       @Path("eventId") String eventId,
+                                       @Path("roomId") String roomId,
+                                       @Path("regionId") String regionId,
+                                       @Path("languageId") String languageId,
+                                       @Path("accessibilityId") String accessibilityId,
+                                       @Path("professionalId") String professionalId);
+}
@@ -0,0 +1,313 @@
+package com.example.beplay_v3;
+
+import android.os.Build;
+import android.view.KeyEvent;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Button;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The vertical list of buttons every catalog screen shows, on a RecyclerView.
+ * Only the visible rows have views, and a refresh is diffed by row key: rows whose label
+ * did not change keep their view (and its focus) and are not rebound.
+ *
+ * Behaves like the old per-screen makeButton(): DPAD up/down moves one row, focus speaks
+ * the label (through the screen's callback) and forwards to the screen's
+ * {@link FocusPrefetcher}. Rows are flat; the focused one is marked by a single
+ * {@link FocusHighlight} drawn by the list. Main thread only.
+ */
+final class ButtonList {
+
+    private static final float DISABLED_ALPHA = 0.6f;
+
+    /** One button. {@code key} identifies the item across refreshes (usually its id). */
+    static final class Row {
+        final String key;
+        final String label;
+        final boolean enabled;
+        final Runnable onClick;
+        final Supplier<CatalogRepository.Prefetch> prefetch; // what to warm while focused, or null
+
+        Row(String key, String label, Runnable onClick, Supplier<CatalogRepository.Prefetch> prefetch) {
+            this(key, label, true, onClick, prefetch);
+        }
+
+        private Row(String key, String label, boolean enabled, Runnable onClick,
+                    Supplier<CatalogRepository.Prefetch> prefetch) {
+            this.key = key != null ? key : label;
+            this.label = label;
+            this.enabled = enabled;
+            this.onClick = onClick;
+            this.prefetch = prefetch;
+        }
+
+        /** A disabled row for errors and empty lists. */
+        static Row message(String text) {
+            return new Row("message:" + text, text, false, null, null);
+        }
+    }
+
+    private final RecyclerView view;
+    private final Adapter adapter = new Adapter();
+    private final FocusHighlight highlight;
+    private final Consumer<View> onFocused;
+    private final Consumer<String> prewarm;
+    private FocusPrefetcher prefetcher;
+    private boolean focusFirst = true;
+    private final List<Runnable> changeListeners = new ArrayList<>();
+
+    // Stable ids: one per key for the life of the screen
+    private final Map<String, Long> ids = new HashMap<>();
+    private long nextId = 1;
+
+    /**
+     * @param highlightColor color of the frame around the focused row
+     * @param onFocused   called when a row gains focus (speak its label here)
+     * @param prewarm     gets each label, so its speech can be synthesized ahead of focus
+     */
+    ButtonList(RecyclerView view, int highlightColor, Consumer<View> onFocused, Consumer<String> prewarm) {
+        this.view = view;
+        this.highlight = new FocusHighlight(view, highlightColor);
+        this.onFocused = onFocused;
+        this.prewarm = prewarm;
+        adapter.setHasStableIds(true);
+        view.setLayoutManager(new LinearLayoutManager(view.getContext()));
+        view.setItemAnimator(null); // rows appear at once, as before; no fades under DPAD focus
+        view.setAdapter(adapter);
+        view.addItemDecoration(highlight);
+    }
+
+    /** Focus changes of rows are forwarded here, with the focused row's prefetch bound to its view. */
+    void setPrefetcher(FocusPrefetcher prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
+    /** Whether a submit focuses the first row when no row has focus (default true). Off under a text field. */
+    void setFocusFirst(boolean focusFirst) {
+        this.focusFirst = focusFirst;
+    }
+
+    /** Called after every list change is applied (e.g. to republish voice commands). */
+    void addOnChangedListener(Runnable r) {
+        changeListeners.add(r);
+    }
+
+    /**
+     * Shows {@code rows}. Only rows that are new or whose label changed are rebound.
+     * If no row has focus afterwards, the first one takes it.
+     */
+    void submit(List<Row> rows) {
+        submit(rows, null);
+    }
+
+    /** As {@link #submit(List)}; {@code then} runs once the rows are on screen. */
+    void submit(List<Row> rows, Runnable then) {
+        List<Row> unique = new ArrayList<>(rows.size());
+        Set<String> seen = new HashSet<>();
+        for (Row r : rows) {
+            String key = r.key;
+            for (int n = 2; !seen.add(key); n++) key = r.key + "#" + n; // duplicate ids from the API
+            unique.add(key.equals(r.key) ? r : new Row(key, r.label, r.enabled, r.onClick, r.prefetch));
+            if (r.enabled) prewarm.accept(r.label);
+        }
+        adapter.submitList(unique, () -> {
+            if (focusFirst && view.getFocusedChild() == null) focus(0);
+            for (Runnable l : changeListeners) l.run();
+            if (then != null) then.run();
+        });
+    }
+
+    /** Replaces the list with a single disabled row. */
+    void showMessage(String text) {
+        submit(Collections.singletonList(Row.message(text)));
+    }
+
+    List<Row> rows() {
+        return adapter.getCurrentList();
+    }
+
+    int size() {
+        return adapter.getItemCount();
+    }
+
+    /** Adapter position of the row containing {@code v}, or -1. */
+    int positionOf(View v) {
+        if (v == null) return -1;
+        RecyclerView.ViewHolder h = view.findContainingViewHolder(v);
+        return h != null ? h.getBindingAdapterPosition() : -1;
+    }
+
+    /** The focused row's view, or null. */
+    View focusedItem() {
+        return view.getFocusedChild();
+    }
+
+    /** The focused row's view; if none, focuses the first row and returns it (null if the list is empty). */
+    View focusedOrFirst() {
+        View focused = focusedItem();
+        if (focused != null) return focused;
+        RecyclerView.ViewHolder first = view.findViewHolderForAdapterPosition(0);
+        if (first == null) return null;
+        first.itemView.requestFocus();
+        return first.itemView;
+    }
+
+    /** Moves focus to a row, scrolling it into view (and binding it) first if needed. */
+    void focus(int position) {
+        if (position < 0 || position >= size()) return;
+        RecyclerView.ViewHolder h = view.findViewHolderForAdapterPosition(position);
+        if (h != null) {
+            h.itemView.requestFocus();
+            return;
+        }
+        view.scrollToPosition(position);
+        view.post(() -> {
+            RecyclerView.ViewHolder later = view.findViewHolderForAdapterPosition(position);
+            if (later != null) later.itemView.requestFocus();
+        });
+    }
+
+    /** Runs a row's click action, whether or not it is on screen. */
+    void click(int position) {
+        if (position < 0 || position >= size()) return;
+        Row r = rows().get(position);
+        if (r.enabled && r.onClick != null) r.onClick.run();
+    }
+
+    // ===== Adapter =====
+
+    private final class Adapter extends ListAdapter<Row, Holder> {
+
+        Adapter() {
+            super(new DiffUtil.ItemCallback<Row>() {
+                @Override public boolean areItemsTheSame(@NonNull Row a, @NonNull Row b) {
+                    return a.key.equals(b.key);
+                }
+
+                @Override public boolean areContentsTheSame(@NonNull Row a, @NonNull Row b) {
+                    return a.enabled == b.enabled && Objects.equals(a.label, b.label);
+                }
+            });
+        }
+
+        @Override
+        public long getItemId(int position) {
+            return ids.computeIfAbsent(getItem(position).key, k -> nextId++);
+        }
+
+        @NonNull
+        @Override
+        public Holder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            return new Holder(makeButton(parent));
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull Holder holder, int position) {
+            Row r = getItem(position);
+            holder.button.setText(r.label);
+            holder.button.setEnabled(r.enabled);
+            holder.button.setAlpha(r.enabled ? 1f : DISABLED_ALPHA);
+        }
+    }
+
+    private final class Holder extends RecyclerView.ViewHolder {
+        final Button button;
+
+        Holder(Button button) {
+            super(button);
+            this.button = button;
+
+            // Listeners are set once per view and read the row bound at the time of the event,
+            // so a refresh that keeps the view also keeps them current
+            button.setOnClickListener(v -> click(getBindingAdapterPosition()));
+
+            button.setOnFocusChangeListener((v, hasFocus) -> {
+                if (prefetcher != null) {
+                    Row r = row();
+                    prefetcher.bind(v, r != null ? r.prefetch : null);
+                    prefetcher.onFocusChange(v, hasFocus);
+                }
+                highlight.onFocusChange(hasFocus);
+                if (!hasFocus) return;
+                onFocused.accept(v);
+            });
+
+            // DPAD: one row at a time; at either end the key falls through (e.g. to Back)
+            button.setOnKeyListener((v, keyCode, event) -> {
+                if (event.getAction() != KeyEvent.ACTION_DOWN) return false;
+
+                int idx = getBindingAdapterPosition();
+                if (idx == RecyclerView.NO_POSITION) return false;
+
+                int target;
+                switch (keyCode) {
+                    case KeyEvent.KEYCODE_DPAD_RIGHT:
+                    case KeyEvent.KEYCODE_DPAD_DOWN:
+                        target = Math.min(idx + 1, size() - 1);
+                        break;
+                    case KeyEvent.KEYCODE_DPAD_LEFT:
+                    case KeyEvent.KEYCODE_DPAD_UP:
+                        target = Math.max(idx - 1, 0);
+                        break;
+                    default:
+                        return false;
+                }
+                if (target != idx) {
+                    focus(target);
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        Row row() {
+            int p = getBindingAdapterPosition();
+            return p != RecyclerView.NO_POSITION ? adapter.getCurrentList().get(p) : null;
+        }
+    }
+
+    // ===== Row look: the old makeButton's size and padding, flat =====
+
+    private Button makeButton(ViewGroup parent) {
+        Button b = new Button(parent.getContext());
+        b.setAllCaps(false);
+
+        // Flat: a plain color background and no elevation shadow. The focus highlight
+        // is drawn once by the list, not by every row
+        b.setBackgroundResource(R.drawable.button_background);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            b.setStateListAnimator(null);
+        }
+
+        RecyclerView.LayoutParams lp = new RecyclerView.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT);
+        lp.bottomMargin = dp(8);
+        b.setLayoutParams(lp);
+        b.setPadding(dp(16), dp(12), dp(16), dp(12));
+
+        b.setFocusable(true);
+        b.setFocusableInTouchMode(true);
+        return b;
+    }
+
+    private int dp(int v) {
+        return Math.round(v * view.getResources().getDisplayMetrics().density);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.beplay_v3;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import okhttp3.Dns;
+
+/**
+ * DNS with an app-level TTL cache in front of the system resolver.
+ * A fresh answer is reused for {@code ttlMs}, so drilling down the catalog never waits
+ * on resolution; if a refresh fails (flaky venue DNS), the last answer is served for
+ * up to {@code staleMs} more instead of failing the request.
+ */
+final class CachingDns implements Dns {
+
+    private final Dns upstream;
+    private final long ttlMs;
+    private final long staleMs;
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> cache = new HashMap<>();
+
+    CachingDns(Dns upstream, long ttlMs, long staleMs, LongSupplier clock) {
+        this.upstream = upstream;
+        this.ttlMs = ttlMs;
+        this.staleMs = staleMs;
+        this.clock = clock;
+    }
+
+    /** System resolver, with the error message the app always used. */
+    static Dns system() {
+        return hostname -> {
+            try {
+                return Arrays.asList(InetAddress.getAllByName(hostname));
+            } catch (UnknownHostException e) {
+                throw new UnknownHostException("Failed to resolve " + hostname + " using custom DNS");
+            }
+        };
+    }
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        long now = clock.getAsLong();
+        Entry e;
+        synchronized (cache) {
+            e = cache.get(hostname);
+        }
+        if (e != null && now - e.resolvedAt < ttlMs) return e.addresses;
+
+        try {
+            List<InetAddress> fresh = Collections.unmodifiableList(upstream.lookup(hostname));
+            synchronized (cache) {
+                cache.put(hostname, new Entry(fresh, clock.getAsLong()));
+            }
+            return fresh;
+        } catch (UnknownHostException ex) {
+            if (e != null && now - e.resolvedAt < ttlMs + staleMs) return e.addresses;
+            throw ex;
+        }
+    }
+
+    private static final class Entry {
+        final List<InetAddress> addresses;
+        final long resolvedAt;
+
+        Entry(List<InetAddress> addresses, long resolvedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+}
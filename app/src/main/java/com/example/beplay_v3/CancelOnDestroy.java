@@ -0,0 +1,48 @@
+package com.example.beplay_v3;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+
+/**
+ * Cancels a request when its screen is destroyed, so a late response neither
+ * keeps the activity reachable nor runs UI code against it.
+ * Main thread only (Lifecycle observers must be added/removed there).
+ */
+public final class CancelOnDestroy implements DefaultLifecycleObserver {
+
+    private final Runnable cancel;
+    private Lifecycle lifecycle;
+
+    private CancelOnDestroy(Runnable cancel) {
+        this.cancel = cancel;
+    }
+
+    /** Binds {@code cancel} to {@code owner}'s ON_DESTROY. Call {@link #release()} once the request finished. */
+    public static CancelOnDestroy bind(LifecycleOwner owner, Runnable cancel) {
+        CancelOnDestroy c = new CancelOnDestroy(cancel);
+        Lifecycle lc = owner.getLifecycle();
+        if (lc.getCurrentState() == Lifecycle.State.DESTROYED) {
+            cancel.run();
+            return c;
+        }
+        c.lifecycle = lc;
+        lc.addObserver(c);
+        return c;
+    }
+
+    /** The request is done: stop observing so the screen does not retain it. */
+    public void release() {
+        if (lifecycle != null) {
+            lifecycle.removeObserver(this);
+            lifecycle = null;
+        }
+    }
+
+    @Override
+    public void onDestroy(@NonNull LifecycleOwner owner) {
+        release();
+        cancel.run();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.beplay_v3;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Network interceptor: makes catalog GETs storable in the disk cache even when the
+ * API sends no caching headers (or no-store, no-cache), marking them "max-age=0".
+ * A stored copy is then always stale: {@link ApiCall}'s cache-only read
+ * ({@code CacheControl.FORCE_CACHE}) still serves it, while every normal request
+ * revalidates it with the ETag / Last-Modified the server returned.
+ * ("no-cache" would forbid the cache-only read; it answers 504 instead.)
+ * Channel credentials (/professional/...) are never stored.
+ */
+final class CatalogCacheInterceptor implements Interceptor {
+
+    static final String STORED_CACHE_CONTROL = "max-age=0";
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        // A 304's headers are merged into the stored copy, so they need the same rewrite
+        boolean storable = response.isSuccessful() || response.code() == 304;
+        if (!isCatalogGet(request) || !storable) return response;
+
+        // Server gave an explicit freshness lifetime: respect it
+        if (response.cacheControl().maxAgeSeconds() > 0) return response;
+
+        return response.newBuilder()
+                .removeHeader("Pragma")
+                .removeHeader("Expires")
+                .header("Cache-Control", STORED_CACHE_CONTROL)
+                .build();
+    }
+
+    static boolean isCatalogGet(Request request) {
+        String path = request.url().encodedPath();
+        return "GET".equals(request.method())
+                && path.startsWith("/api/idiomas")
+                && !path.contains("/professional/");
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.beplay_v3;
+
+import java.util.List;
+
+/** Callback for {@link CatalogRepository#load}. Always invoked on the main thread. */
+public interface CatalogCallback<I> {
+
+    /**
+     * @param fromStore true for the copy read from the local store before the network answered.
+     *                  Called again with fresh items only if the level actually changed.
+     */
+    void onItems(List<I> items, boolean fromStore);
+
+    /** Non-2xx from the API and nothing stored for this level. */
+    void onHttpError(int code);
+
+    /** Network failure and nothing stored for this level. */
+    void onFailure(Throwable t);
+}
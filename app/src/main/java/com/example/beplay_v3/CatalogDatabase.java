@@ -0,0 +1,58 @@
+package com.example.beplay_v3;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+/**
+ * Local catalog store. One row per item per level; a level is addressed by the
+ * same path segments as the API (e.g. "idiomas/br/categoria/9/events").
+ *
+ * What the app queries by (level, id, kind, order, name, updated_at) is a column;
+ * the rest of the typed model (Language, CategoryItem, EventItem, ...) is kept as its
+ * ApiJson document, so a field the API adds needs no schema change. Nothing reads
+ * those fields in SQL, so splitting them into one table per model would buy nothing.
+ */
+final class CatalogDatabase extends SQLiteOpenHelper {
+
+    private static final String DB_NAME = "catalog.db";
+    private static final int DB_VERSION = 1;
+
+    static final String T_NODE       = "catalog_node";
+    static final String C_PARENT     = "parent_path";
+    static final String C_NODE_ID    = "node_id";
+    static final String C_KIND       = "kind";
+    static final String C_POSITION   = "position";
+    static final String C_LABEL      = "label";
+    static final String C_UPDATED_AT = "updated_at";
+    static final String C_JSON       = "json";
+
+    CatalogDatabase(Context ctx) {
+        super(ctx.getApplicationContext(), DB_NAME, null, DB_VERSION);
+    }
+
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        db.enableWriteAheadLogging(); // reads from the UI flow don't wait on a sync write
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + T_NODE + " ("
+                + C_PARENT + " TEXT NOT NULL, "
+                + C_NODE_ID + " TEXT NOT NULL, "
+                + C_KIND + " TEXT NOT NULL, "
+                + C_POSITION + " INTEGER NOT NULL, "
+                + C_LABEL + " TEXT, "
+                + C_UPDATED_AT + " TEXT, "
+                + C_JSON + " TEXT NOT NULL, "
+                + "PRIMARY KEY (" + C_PARENT + ", " + C_NODE_ID + "))");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // The store is only a cache of the API: rebuild it
+        db.execSQL("DROP TABLE IF EXISTS " + T_NODE);
+        onCreate(db);
+    }
+}
@@ -0,0 +1,376 @@
+package com.example.beplay_v3;
+
+import android.content.Intent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * One level of the catalog drill-down, shown inside {@link CatalogHostActivity}.
+ * A destination only loads its rows and says what picking one opens; the host owns the
+ * list, speech, voice commands and the back stack. Main thread only.
+ */
+abstract class CatalogDestination {
+
+    final CatalogPath path;
+
+    // What Back restores: the last rows delivered and the row that had focus when the user went deeper
+    List<ButtonList.Row> rows = Collections.emptyList();
+    int focusedPosition = -1;
+
+    long openedAt;     // uptime of the pick that opened it; cleared once its first rows are on screen
+    String transition; // how it was opened, for the timing log (CatalogHostActivity.IN_HOST, ...)
+
+    private Runnable cancel;
+
+    CatalogDestination(CatalogPath path) {
+        this.path = path;
+    }
+
+    /** Spoken when the level opens, e.g. "Choose event". */
+    abstract String intro();
+
+    /** Starts loading; rows go to {@link CatalogHostActivity#show}. Returns a handle that abandons the load. */
+    abstract Runnable load(CatalogHostActivity host);
+
+    /** Starts loading; the transition is timed from {@code pickedAt} (uptime) to the first rows on screen. */
+    final void start(CatalogHostActivity host, long pickedAt, String transition) {
+        this.openedAt = pickedAt;
+        this.transition = transition;
+        cancel = load(host);
+    }
+
+    /** Abandons the load; nothing is delivered afterwards. */
+    final void cancel() {
+        if (cancel != null) {
+            cancel.run();
+            cancel = null;
+        }
+    }
+
+    /** The level listing what is below {@code path}'s last id (categories for a country), or null if none. */
+    static CatalogDestination forPath(CatalogPath path) {
+        switch (path.depth()) {
+            case 1:  return new Categories(path);
+            case 2:  return new Events(path);
+            case 3:  return new Rooms(path);
+            case 4:  return new Regions(path);
+            case 5:  return new RegionLanguages(path);
+            case 6:  return new Accessibilities(path);
+            case 7:  return new Professional(path);
+            case 8:  return new Channel(path);
+            default: return null;
+        }
+    }
+
+    // ===== List levels =====
+
+    /** A level listing catalog items, loaded store-first through {@link CatalogRepository}. */
+    abstract static class ListLevel<I extends CatalogNode> extends CatalogDestination {
+
+        private final String noun;         // spoken in errors: "Failed to load events"
+        private final String emptyMessage;
+
+        ListLevel(CatalogPath path, String noun, String emptyMessage) {
+            super(path);
+            this.noun = noun;
+            this.emptyMessage = emptyMessage;
+        }
+
+        /** Starts the load of this level through {@link CatalogRepository#load}; returns its call. */
+        abstract ApiCall<?> request(CatalogHostActivity host, CatalogCallback<I> callback);
+
+        abstract String label(I item);
+
+        /** What to warm while the row opening {@code child} has focus, or null. */
+        Supplier<CatalogRepository.Prefetch> prefetch(CatalogHostActivity host, CatalogPath child) {
+            return null;
+        }
+
+        /** Whether picking a row says "Opening ...". */
+        boolean speaksOpening() {
+            return true;
+        }
+
+        @Override
+        final Runnable load(CatalogHostActivity host) {
+            ApiCall<?> call = request(host, new CatalogCallback<I>() {
+                @Override public void onFailure(Throwable e) {
+                    host.showMessage(ListLevel.this, "Request failed: " + e.getMessage(),
+                            "Failed to load " + noun + ". Please try again.");
+                }
+
+                @Override public void onHttpError(int code) {
+                    host.showMessage(ListLevel.this, "HTTP " + code, "Unable to load " + noun + ". Server error.");
+                }
+
+                @Override public void onItems(List<I> items, boolean fromStore) {
+                    if (items.isEmpty()) {
+                        host.showMessage(ListLevel.this, emptyMessage, "No " + noun + " available.");
+                        return;
+                    }
+                    List<ButtonList.Row> rows = new ArrayList<>(items.size());
+                    for (I item : items) {
+                        if (item == null) continue;
+                        String label = label(item);
+                        String id = item.nodeId();
+                        CatalogPath child = (id != null && !id.trim().isEmpty()) ? path.child(id) : null;
+
+                        Runnable open = () -> {
+                            if (child == null) return;
+                            if (speaksOpening()) host.speakText("Opening " + label);
+                            host.open(forPath(child));
+                        };
+                        // Warm the next level while the user dwells on this row
+                        rows.add(new ButtonList.Row(id, label, open, child == null ? null : prefetch(host, child)));
+                    }
+                    host.show(ListLevel.this, rows);
+                }
+            });
+            return call::cancel;
+        }
+    }
+
+    static final class Categories extends ListLevel<CategoryItem> {
+        Categories(CatalogPath path) { super(path, "categories", "(No categories)"); }
+
+        @Override String intro() { return "Choose category"; }
+
+        @Override ApiCall<?> request(CatalogHostActivity host, CatalogCallback<CategoryItem> callback) {
+            ApiCall<CategoryItem[]> call = host.api().service().categories(path.codPais).bindTo(host);
+            CatalogRepository.get(host).load(call, CategoryItem.class, arr -> arr, callback);
+            return call;
+        }
+
+        @Override String label(CategoryItem cat) {
+            return (cat.nome != null && !cat.nome.trim().isEmpty()) ? cat.nome : "(sem nome)";
+        }
+
+        @Override boolean speaksOpening() { return false; }
+    }
+
+    static final class Events extends ListLevel<EventItem> {
+        Events(CatalogPath path) { super(path, "events", "(No events)"); }
+
+        @Override String intro() { return "Choose event"; }
+
+        @Override ApiCall<?> request(CatalogHostActivity host, CatalogCallback<EventItem> callback) {
+            ApiCall<EventItem[]> call = host.api().service().events(path.codPais, path.categoryId).bindTo(host);
+            CatalogRepository.get(host).load(call, EventItem.class, arr -> arr, callback);
+            return call;
+        }
+
+        @Override String label(EventItem ev) {
+            return (ev.eventName != null && !ev.eventName.trim().isEmpty()) ? ev.eventName : "(sem nome)";
+        }
+
+        @Override Supplier<CatalogRepository.Prefetch> prefetch(CatalogHostActivity host, CatalogPath c) {
+            return () -> CatalogRepository.get(host).prefetch(
+                    host.api().service().rooms(c.codPais, c.categoryId, c.eventId), RoomItem.class, env -> env.rooms);
+        }
+    }
+
+    static final class Rooms extends ListLevel<RoomItem> {
+        Rooms(CatalogPath path) { super(path, "rooms", "(No rooms)"); }
+
+        @Override String intro() { return "Choose room"; }
+
+        @Override ApiCall<?> request(CatalogHostActivity host, CatalogCallback<RoomItem> callback) {
+            ApiCall<RoomsEnvelope> call = host.api().service()
+                    .rooms(path.codPais, path.categoryId, path.eventId).bindTo(host);
+            CatalogRepository.get(host).load(call, RoomItem.class, env -> env.rooms, callback);
+            return call;
+        }
+
+        @Override String label(RoomItem room) {
+            return (room.name != null && !room.name.trim().isEmpty())
+                    ? room.name
+                    : ("Room " + (room.id != null ? room.id : "?"));
+        }
+
+        @Override Supplier<CatalogRepository.Prefetch> prefetch(CatalogHostActivity host, CatalogPath c) {
+            return () -> CatalogRepository.get(host).prefetch(
+                    host.api().service().regions(c.codPais, c.categoryId, c.eventId, c.roomId),
+                    IdiomaItem.class, env -> env.idioma);
+        }
+    }
+
+    static final class Regions extends ListLevel<IdiomaItem> {
+        Regions(CatalogPath path) { super(path, "regions", "(No idiomas)"); }
+
+        @Override String intro() { return "Choose region"; }
+
+        @Override ApiCall<?> request(CatalogHostActivity host, CatalogCallback<IdiomaItem> callback) {
+            ApiCall<RegionsEnvelope> call = host.api().service()
+                    .regions(path.codPais, path.categoryId, path.eventId, path.roomId).bindTo(host);
+            CatalogRepository.get(host).load(call, IdiomaItem.class, env -> env.idioma, callback);
+            return call;
+        }
+
+        @Override String label(IdiomaItem it) {
+            return (it.nome != null && !it.nome.trim().isEmpty())
+                    ? it.nome
+                    : ("Idioma " + (it.id != null ? it.id : "?"));
+        }
+
+        @Override Supplier<CatalogRepository.Prefetch> prefetch(CatalogHostActivity host, CatalogPath c) {
+            return () -> CatalogRepository.get(host).prefetch(
+                    host.api().service().regionLanguages(c.codPais, c.categoryId, c.eventId, c.roomId, c.regionId),
+                    RegionLanguageItem.class, env -> env.language);
+        }
+    }
+
+    /** GET /region/{regionId}/idiomas: the languages of one region. */
+    static final class RegionLanguages extends ListLevel<RegionLanguageItem> {
+        RegionLanguages(CatalogPath path) { super(path, "languages", "(No languages)"); }
+
+        @Override String intro() { return "Choose language"; }
+
+        @Override ApiCall<?> request(CatalogHostActivity host, CatalogCallback<RegionLanguageItem> callback) {
+            ApiCall<RegionLanguagesEnvelope> call = host.api().service()
+                    .regionLanguages(path.codPais, path.categoryId, path.eventId, path.roomId, path.regionId).bindTo(host);
+            CatalogRepository.get(host).load(call, RegionLanguageItem.class, env -> env.language, callback);
+            return call;
+        }
+
+        @Override String label(RegionLanguageItem lang) {
+            return (lang.name != null && !lang.name.trim().isEmpty()) ? lang.name : "Language";
+        }
+
+        @Override Supplier<CatalogRepository.Prefetch> prefetch(CatalogHostActivity host, CatalogPath c) {
+            return () -> CatalogRepository.get(host).prefetch(
+                    host.api().service().accessibilities(c.codPais, c.categoryId, c.eventId, c.roomId, c.regionId, c.languageId),
+                    AccessibilityItem.class, env -> env.accessibility);
+        }
+    }
+
+    static final class Accessibilities extends ListLevel<AccessibilityItem> {
+        Accessibilities(CatalogPath path) { super(path, "accessibilities", "(No accessibilities)"); }
+
+        @Override String intro() { return "Choose accessibility"; }
+
+        @Override ApiCall<?> request(CatalogHostActivity host, CatalogCallback<AccessibilityItem> callback) {
+            ApiCall<AccessibilitiesEnvelope> call = host.api().service().accessibilities(path.codPais, path.categoryId,
+                    path.eventId, path.roomId, path.regionId, path.languageId).bindTo(host);
+            CatalogRepository.get(host).load(call, AccessibilityItem.class, env -> env.accessibility, callback);
+            return call;
+        }
+
+        @Override String label(AccessibilityItem a) {
+            return (a.name != null && !a.name.trim().isEmpty()) ? a.name : "Accessibility";
+        }
+
+        @Override Supplier<CatalogRepository.Prefetch> prefetch(CatalogHostActivity host, CatalogPath c) {
+            return () -> CatalogRepository.get(host).prefetch(host.api().service().accessibility(c.codPais,
+                    c.categoryId, c.eventId, c.roomId, c.regionId, c.languageId, c.accessibilityId));
+        }
+    }
+
+    // ===== Professional and channel =====
+
+    /** The accessibility's professional: a single row. */
+    static final class Professional extends CatalogDestination {
+        Professional(CatalogPath path) { super(path); }
+
+        @Override String intro() { return "Choose professional"; }
+
+        @Override Runnable load(CatalogHostActivity host) {
+            CatalogPath p = path;
+            ApiCall<AccessibilityDetailEnvelope> call = host.api().service().accessibility(p.codPais, p.categoryId,
+                    p.eventId, p.roomId, p.regionId, p.languageId, p.accessibilityId).bindTo(host);
+            call.enqueue(new ApiCallback<AccessibilityDetailEnvelope>() {
+                @Override public void onFailure(Throwable e) {
+                    host.showMessage(Professional.this, "Request failed: " + e.getMessage(),
+                            "Failed to load professional details. Please try again.");
+                }
+
+                @Override public void onResponse(Response<AccessibilityDetailEnvelope> response, boolean fromCache) {
+                    if (!response.isSuccessful()) {
+                        host.showMessage(Professional.this, "HTTP " + response.code(),
+                                "Unable to load professional details. Server error.");
+                        return;
+                    }
+                    AccessibilityDetailEnvelope env = response.body();
+                    ProfessionalItem prof = (env != null) ? env.professional : null;
+                    if (prof == null) {
+                        host.showMessage(Professional.this, "(No professional)",
+                                "No professional is available for this option.");
+                        return;
+                    }
+                    if (prof.id == null) {
+                        host.showMessage(Professional.this, "(No professional id)",
+                                "Professional information is incomplete.");
+                        return;
+                    }
+                    String profName = (prof.name != null) ? prof.name : "Professional";
+                    String profId = String.valueOf(prof.id);
+                    host.show(Professional.this, Collections.singletonList(new ButtonList.Row(profId, profName, () -> {
+                        host.speakText("Opening " + profName);
+                        host.open(new Channel(p.child(profId)));
+                    }, null)));
+                }
+            });
+            return call::cancel;
+        }
+    }
+
+    /** Channel credentials for the professional, and the button that joins it. */
+    static final class Channel extends CatalogDestination {
+        Channel(CatalogPath path) { super(path); }
+
+        @Override String intro() { return "Join channel"; }
+
+        @Override Runnable load(CatalogHostActivity host) {
+            CatalogPath p = path;
+            Call<ChannelEnvelope> request = host.api().service().professional(p.codPais, p.categoryId, p.eventId,
+                    p.roomId, p.regionId, p.languageId, p.accessibilityId, p.professionalId);
+            // Channel tokens are never cached, so nothing to coalesce; retries/hedging still apply,
+            // and the exchange is dropped with the level (or the host)
+            return host.api().policy().enqueue(request, new Callback<ChannelEnvelope>() {
+                @Override public void onFailure(Call<ChannelEnvelope> call, Throwable e) {
+                    host.runOnUiThread(() -> host.showMessage(Channel.this, "Request failed: " + e.getMessage(),
+                            e instanceof CircuitOpenException
+                                    ? "The server is not responding right now. Please try again in a moment."
+                                    : "Failed to load channel information. Please try again."));
+                }
+
+                @Override public void onResponse(Call<ChannelEnvelope> call, Response<ChannelEnvelope> response) {
+                    ChannelEnvelope env = response.isSuccessful() ? response.body() : null;
+                    ChannelInfo ch = (env != null) ? env.channel : null;
+                    boolean okResponse = response.isSuccessful();
+                    int httpCode = response.code();
+
+                    host.runOnUiThread(() -> {
+                        if (!okResponse) {
+                            host.showMessage(Channel.this, "HTTP " + httpCode,
+                                    "Unable to load channel information. Server error.");
+                            return;
+                        }
+                        if (ch == null) {
+                            host.showMessage(Channel.this, "(No channel info)", "No channel information is available.");
+                            return;
+                        }
+                        Intent go = AgoraChannelActivity.joinIntent(host, ch);
+                        if (go == null) {
+                            host.showMessage(Channel.this, "(Missing channel credentials)",
+                                    "Channel credentials are missing. Cannot join.");
+                            return;
+                        }
+                        String label = go.getBooleanExtra(AgoraChannelActivity.EXTRA_AGORA_IS_VIDEO, false)
+                                ? "Join Channel (Video)" : "Join Channel (Audio)";
+                        host.show(Channel.this, Collections.singletonList(new ButtonList.Row("join", label, () -> {
+                            host.speakText("Joining channel");
+                            host.startActivity(go);
+                        }, null)));
+                    });
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.beplay_v3;
+
+import android.content.Context;
+import android.content.Intent;
+import android.graphics.Color;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.KeyEvent;
+import android.view.View;
+import android.widget.Button;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The catalog drill-down (categories down to joining a channel) in one activity.
+ * Each level is a {@link CatalogDestination} on an in-memory back stack; they share this
+ * screen's list, speech handle, voice commands, prefetcher and API client, so going a level
+ * down is one load into the same list instead of a new activity.
+ *
+ * Back pops a level and restores its rows and focus, as returning to the old per-level
+ * activities did; Back on the level the host was opened at closes it.
+ */
+public class CatalogHostActivity extends BaseTtsActivity {
+
+    private static final String TAG = "CatalogHost";
+
+    static final String EXTRA_PATH = "extra_catalog_path";
+
+    /**
+     * Optional uptime of the pick that launched this host. Set when a level is opened as a new
+     * activity, the way every level was before the host, so both kinds of transition are timed
+     * between the same two points (see CatalogTransitionBenchmark).
+     */
+    static final String EXTRA_PICKED_AT = "extra_catalog_picked_at";
+
+    // Transition kinds in the timing log and in TRANSITIONS
+    static final String IN_HOST = "in host";
+    static final String NEW_ACTIVITY = "new activity";
+    static final String FIRST_LEVEL = "first level";
+
+    /** Level-to-level transition times (ms) by kind, for the log line and the benchmark. */
+    static final LatencyTracker TRANSITIONS = new LatencyTracker();
+
+    /** Opens the level below {@code path}'s last id: a country opens its categories, an event its rooms... */
+    static Intent intent(Context ctx, CatalogPath path) {
+        return new Intent(ctx, CatalogHostActivity.class).putExtra(EXTRA_PATH, path.toString());
+    }
+
+    private final ArrayDeque<CatalogDestination> stack = new ArrayDeque<>();
+
+    private RecyclerView containerButtons;
+    private ButtonList buttons;
+    private BePlayApi api;
+    private FocusPrefetcher prefetcher;
+
+    // ===== Voice command fields (Vuzix) =====
+    private VoiceList voiceList;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_catalog_host);
+
+        containerButtons = findViewById(R.id.containerButtons);
+        api = BePlayApi.get(this);
+        prefetcher = new FocusPrefetcher(this);
+        buttons = new ButtonList(containerButtons, Color.parseColor("#80000000"), // darker highlight
+                v -> speakViewLabel(v, "Selected item"), this::prewarmSpeech);
+        buttons.setPrefetcher(prefetcher);
+
+        // Back button (TTS on focus, silent on click)
+        Button backButton = findViewById(R.id.backButton);
+        if (backButton != null) {
+            backButton.setOnClickListener(v -> onBackPressed());
+
+            backButton.setFocusable(true);
+            backButton.setFocusableInTouchMode(true);
+
+            backButton.setOnFocusChangeListener((v, hasFocus) -> {
+                if (!hasFocus) return;
+                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+                    triggerRipple(v);
+                }
+                speakViewLabel(v, "Back");
+            });
+        }
+
+        // Voice init
+        voiceList = new VoiceList(this, buttons, this::speakText);
+
+        // The only extra: everything below travels in memory
+        CatalogDestination first = CatalogDestination.forPath(CatalogPath.parse(getIntent().getStringExtra(EXTRA_PATH)));
+        if (first == null) {
+            initTts(null);
+            buttons.showMessage("(Missing codPais)");
+            speakAlert("Required information is missing. Cannot load the catalog.");
+            return;
+        }
+        initTts(first.intro());
+        stack.push(first);
+        long pickedAt = getIntent().getLongExtra(EXTRA_PICKED_AT, 0);
+        if (pickedAt > 0) {
+            first.start(this, pickedAt, NEW_ACTIVITY);
+        } else {
+            first.start(this, SystemClock.uptimeMillis(), FIRST_LEVEL);
+        }
+    }
+
+    BePlayApi api() {
+        return api;
+    }
+
+    // ===== Navigation =====
+
+    /** Goes one level down; the current level keeps its rows and focus for Back. */
+    void open(CatalogDestination next) {
+        long pickedAt = SystemClock.uptimeMillis();
+        CatalogDestination current = stack.peek();
+        if (next == null || current == null) return;
+        current.focusedPosition = buttons.positionOf(buttons.focusedItem());
+        prefetcher.settle(); // the row just picked may be prefetching this very level
+
+        stack.push(next);
+        speakIntro(next.intro()); // before the list changes, so focus moves are not spoken over it
+        buttons.submit(Collections.emptyList()); // no stale rows while the level loads
+        next.start(this, pickedAt, IN_HOST);
+    }
+
+    @Override
+    public void onBackPressed() {
+        if (stack.size() <= 1) {
+            super.onBackPressed();
+            return;
+        }
+        stack.pop().cancel();
+        tts.stop(); // what the closed level was saying, as when its activity finished
+
+        CatalogDestination back = stack.peek();
+        introFinished = false; // restoring focus below stays quiet...
+        buttons.submit(back.rows, () -> {
+            buttons.focus(back.focusedPosition);
+            introFinished = true;
+            speakCurrentlyFocusedItem(); // ...and the restored row is announced once
+        });
+    }
+
+    /** Delivers {@code d}'s rows; shown now if it is the current level, otherwise kept for Back. */
+    void show(CatalogDestination d, List<ButtonList.Row> rows) {
+        d.rows = rows;
+        if (d != stack.peek()) return;
+        buttons.submit(rows, () -> reportShown(d));
+    }
+
+    /** A single disabled row plus an alert, for errors and empty levels. */
+    void showMessage(CatalogDestination d, String message, String alert) {
+        show(d, Collections.singletonList(ButtonList.Row.message(message)));
+        if (d == stack.peek()) speakAlert(alert);
+    }
+
+    // Level-to-level transition time: from the pick to the new rows on screen
+    private void reportShown(CatalogDestination d) {
+        if (d.openedAt == 0) return;
+        long ms = SystemClock.uptimeMillis() - d.openedAt;
+        d.openedAt = 0;
+        TRANSITIONS.record(d.transition, ms);
+        Log.i(TAG, d.getClass().getSimpleName() + " shown in " + ms + " ms (" + d.transition
+                + ", p50 " + TRANSITIONS.percentile(d.transition, 50, 1) + " ms over "
+                + TRANSITIONS.size(d.transition) + ")");
+    }
+
+    // ===== TTS =====
+
+    // When intro TTS finishes, speak currently focused item
+    @Override
+    protected void onTtsIntroFinished() {
+        speakCurrentlyFocusedItem();
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        // After returning to this screen (e.g. from a channel), announce focused item again
+        speakCurrentlyFocusedItem();
+    }
+
+    private void speakCurrentlyFocusedItem() {
+        containerButtons.postDelayed(() -> {
+            View focused = buttons.focusedOrFirst();
+            if (focused != null) {
+                speakViewLabel(focused, "Selected item");
+            }
+        }, 220);
+    }
+
+    // ===== Handle the key events coming from Vuzix speech =====
+    @Override
+    public boolean onKeyDown(int keyCode, KeyEvent event) {
+        // Static: "back"
+        if (keyCode == KeyEvent.KEYCODE_BACK) {
+            onBackPressed();
+            return true;
+        }
+
+        // Dynamic: the visible page of buttons, "item N", next/previous page
+        if (voiceList.onKeyDown(keyCode)) return true;
+
+        return super.onKeyDown(keyCode, event);
+    }
+
+    @Override
+    protected void onDestroy() {
+        // Catalog loads are also bound to this activity; the channel request is not
+        for (CatalogDestination d : stack) d.cancel();
+        stack.clear();
+        super.onDestroy();
+    }
+}
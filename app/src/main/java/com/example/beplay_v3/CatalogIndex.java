@@ -0,0 +1,319 @@
+package com.example.beplay_v3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory name index over the catalog levels the app has fetched or stored
+ * (events, rooms, regions, accessibilities), for the voice "find" command.
+ *
+ * Labels are folded with {@link VoicePager#normalizeLower} and split into words; every word
+ * goes into a character trie whose nodes carry the entries passing through them, so a prefix
+ * lookup is one walk down the trie. A word of 5+ letters that matches nothing is retried
+ * allowing one typo. Every query word must match; exact words rank above prefixes above typos.
+ *
+ * Written by the repository's io thread, read from the main thread.
+ */
+final class CatalogIndex {
+
+    /** Indexed levels, keyed by the last segment of their store path. */
+    enum Kind {
+        EVENT("events", "event"),
+        ROOM("rooms", "room"),
+        REGION("regions", "region"),
+        ACCESSIBILITY("accessibilities", "accessibility");
+
+        final String level;     // last segment of the level's path
+        final String segment;   // segment naming one item in a child path
+
+        Kind(String level, String segment) {
+            this.level = level;
+            this.segment = segment;
+        }
+    }
+
+    private static final int MIN_FUZZY_CHARS = 5;
+    private static final int SCORE_EXACT = 3, SCORE_PREFIX = 2, SCORE_TYPO = 1;
+    private static final int REBUILD_MIN_DEAD = 512;    // replaced entries before the trie is rebuilt
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /** One indexed item. {@link #id} gives the path ids needed to open it. */
+    static final class Entry {
+        final Kind kind;
+        final String label;
+        final String nodeId;
+        final String path;                              // level the item belongs to
+        private final Map<String, String> ids;          // "idiomas" -> "BR", "categoria" -> "9", ...
+        private final String[] words;
+        private boolean removed;
+
+        private Entry(Kind kind, String label, String nodeId, String path, Map<String, String> ids, String[] words) {
+            this.kind = kind;
+            this.label = label;
+            this.nodeId = nodeId;
+            this.path = path;
+            this.ids = ids;
+            this.words = words;
+        }
+
+        /** Id for a path segment ("idiomas", "categoria", "event", ...), or null. */
+        String id(String segment) {
+            return ids.get(segment);
+        }
+    }
+
+    private Node root = new Node();
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, int[]> levels = new HashMap<>(); // path -> entry indexes
+    private int dead = 0;
+    private int visited = 0;                            // postings read by the last search
+
+    /** The indexed kind for a store path, or null if that level is not searchable. */
+    static Kind kindOf(String path) {
+        if (path == null) return null;
+        String last = path.substring(path.lastIndexOf('/') + 1);
+        for (Kind k : Kind.values()) {
+            if (k.level.equals(last)) return k;
+        }
+        return null;
+    }
+
+    /** Replaces everything indexed for {@code path} with {@code nodes}. Non-searchable levels are ignored. */
+    synchronized void putLevel(String path, List<? extends CatalogNode> nodes) {
+        Kind kind = kindOf(path);
+        if (kind == null) return;
+        if (sameLevel(path, nodes)) return;             // a store read or an unchanged sync
+
+        int[] old = levels.remove(path);
+        if (old != null) {
+            for (int i : old) entries.get(i).removed = true;
+            dead += old.length;
+        }
+
+        Map<String, String> parentIds = parseIds(path);
+        int[] added = new int[nodes.size()];
+        int n = 0;
+        for (CatalogNode node : nodes) {
+            if (node == null || node.nodeId() == null || node.nodeLabel() == null) continue;
+            String[] words = words(node.nodeLabel());
+            if (words.length == 0) continue;
+            Map<String, String> ids = new HashMap<>(parentIds);
+            ids.put(kind.segment, node.nodeId());
+            added[n++] = add(new Entry(kind, node.nodeLabel().trim(), node.nodeId(), path,
+                    Collections.unmodifiableMap(ids), words));
+        }
+        if (n > 0) levels.put(path, Arrays.copyOf(added, n));
+
+        if (dead >= REBUILD_MIN_DEAD && dead > entries.size() - dead) rebuild();
+    }
+
+    synchronized int size() {
+        return entries.size() - dead;
+    }
+
+    /** Trie postings the last {@link #search} read: the work a lookup did, whatever the clock says. */
+    synchronized int lastVisited() {
+        return visited;
+    }
+
+    /** Best matches for {@code query}, best first. */
+    synchronized List<Entry> search(String query, int limit) {
+        visited = 0;
+        String[] q = words(query);
+        if (q.length == 0 || limit <= 0) return Collections.emptyList();
+
+        int total = entries.size();
+        int[] score = new int[total];
+        int[] matched = new int[total];
+        int[] best = new int[total];
+        IntList touched = new IntList();
+
+        for (int t = 0; t < q.length; t++) {
+            touched.clear();
+            collect(q[t], best, touched);
+            if (touched.size == 0) return Collections.emptyList(); // every word has to match
+            for (int k = 0; k < touched.size; k++) {
+                int e = touched.items[k];
+                if (matched[e] == t) {
+                    matched[e] = t + 1;
+                    score[e] += best[e];
+                }
+                best[e] = 0;
+            }
+        }
+
+        // Sort keys: score, then kind (events first), then shorter label, then API order
+        long[] hits = new long[touched.size];
+        int n = 0;
+        for (int k = 0; k < touched.size; k++) {
+            int e = touched.items[k];
+            Entry entry = entries.get(e);
+            if (matched[e] != q.length || entry.removed) continue;
+            hits[n++] = ((long) (0xFF - score[e]) << 52)
+                    | ((long) entry.kind.ordinal() << 44)
+                    | ((long) Math.min(entry.label.length(), 0xFFF) << 32)
+                    | e;
+        }
+        Arrays.sort(hits, 0, n);
+        List<Entry> out = new ArrayList<>(Math.min(n, limit));
+        for (int k = 0; k < n && out.size() < limit; k++) out.add(entries.get((int) hits[k]));
+        return out;
+    }
+
+    // ===== Matching =====
+
+    // Records in best[] the score of every entry with a word matching {@code word}; typos only as a fallback
+    private void collect(String word, int[] best, IntList touched) {
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) node = node.child(word.charAt(i));
+        if (node != null) {
+            mark(node.exact, SCORE_EXACT, best, touched);
+            mark(node.prefix, SCORE_PREFIX, best, touched);
+        }
+        if (node == null && word.length() >= MIN_FUZZY_CHARS) {
+            int[] row = new int[word.length() + 1];
+            for (int j = 0; j < row.length; j++) row[j] = j;
+            for (int c = 0; c < root.size; c++) fuzzy(root.kids[c], root.keys[c], word, row, best, touched);
+        }
+    }
+
+    // Levenshtein walk: a node whose path is within one edit of the whole word matches as a prefix
+    private void fuzzy(Node node, char ch, String word, int[] prev, int[] best, IntList touched) {
+        int m = word.length();
+        int[] row = new int[m + 1];
+        row[0] = prev[0] + 1;
+        int min = row[0];
+        for (int j = 1; j <= m; j++) {
+            int sub = prev[j - 1] + (word.charAt(j - 1) == ch ? 0 : 1);
+            row[j] = Math.min(sub, Math.min(prev[j] + 1, row[j - 1] + 1));
+            min = Math.min(min, row[j]);
+        }
+        if (row[m] <= 1) {
+            mark(node.prefix, SCORE_TYPO, best, touched); // covers the whole subtree
+            return;
+        }
+        if (min > 1) return;
+        for (int c = 0; c < node.size; c++) fuzzy(node.kids[c], node.keys[c], word, row, best, touched);
+    }
+
+    private void mark(IntList postings, int score, int[] best, IntList touched) {
+        visited += postings.size;
+        for (int k = 0; k < postings.size; k++) {
+            int e = postings.items[k];
+            if (best[e] == 0) touched.add(e);
+            if (score > best[e]) best[e] = score;
+        }
+    }
+
+    // ===== Building =====
+
+    private int add(Entry entry) {
+        int index = entries.size();
+        entries.add(entry);
+        for (String w : entry.words) {
+            Node node = root;
+            for (int i = 0; i < w.length(); i++) {
+                node = node.childOrNew(w.charAt(i));
+                node.prefix.add(index);
+            }
+            node.exact.add(index);
+        }
+        return index;
+    }
+
+    private void rebuild() {
+        List<Entry> old = new ArrayList<>(entries);
+        int[] moved = new int[old.size()];
+        root = new Node();
+        entries.clear();
+        dead = 0;
+        for (int i = 0; i < old.size(); i++) {
+            moved[i] = old.get(i).removed ? -1 : add(old.get(i));
+        }
+        for (int[] idx : levels.values()) {
+            for (int i = 0; i < idx.length; i++) idx[i] = moved[idx[i]];
+        }
+    }
+
+    private boolean sameLevel(String path, List<? extends CatalogNode> nodes) {
+        int[] old = levels.get(path);
+        if (old == null) return nodes.isEmpty();
+        int k = 0;
+        for (CatalogNode node : nodes) {
+            if (node == null || node.nodeId() == null || node.nodeLabel() == null) continue;
+            if (words(node.nodeLabel()).length == 0) continue;
+            if (k == old.length) return false;
+            Entry e = entries.get(old[k++]);
+            if (!e.nodeId.equals(node.nodeId()) || !e.label.equals(node.nodeLabel().trim())) return false;
+        }
+        return k == old.length;
+    }
+
+    /** "idiomas/BR/categoria/9/events" -> {idiomas=BR, categoria=9}. */
+    static Map<String, String> parseIds(String path) {
+        Map<String, String> ids = new LinkedHashMap<>();
+        String[] seg = path.split("/");
+        for (int i = 0; i + 1 < seg.length; i += 2) ids.put(seg[i], seg[i + 1]);
+        return ids;
+    }
+
+    /** Folded, de-duplicated words of a label or query. */
+    static String[] words(String text) {
+        String folded = VoicePager.normalizeLower(text);
+        if (folded.isEmpty()) return new String[0];
+        Set<String> out = new LinkedHashSet<>();
+        for (String w : NON_WORD.split(folded)) {
+            if (!w.isEmpty()) out.add(w);
+        }
+        return out.toArray(new String[0]);
+    }
+
+    private static final class Node {
+        char[] keys = new char[0];
+        Node[] kids = new Node[0];
+        int size = 0;
+        final IntList prefix = new IntList();           // entries with a word running through here
+        final IntList exact = new IntList();            // entries with a word ending here
+
+        Node child(char c) {
+            for (int i = 0; i < size; i++) if (keys[i] == c) return kids[i];
+            return null;
+        }
+
+        Node childOrNew(char c) {
+            Node n = child(c);
+            if (n != null) return n;
+            if (size == keys.length) {
+                int cap = Math.max(2, size * 2);
+                keys = Arrays.copyOf(keys, cap);
+                kids = Arrays.copyOf(kids, cap);
+            }
+            n = new Node();
+            keys[size] = c;
+            kids[size++] = n;
+            return n;
+        }
+    }
+
+    private static final class IntList {
+        int[] items = new int[4];
+        int size = 0;
+
+        void add(int v) {
+            if (size == items.length) items = Arrays.copyOf(items, size * 2);
+            items[size++] = v;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
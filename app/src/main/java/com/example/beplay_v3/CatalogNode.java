@@ -0,0 +1,14 @@
+package com.example.beplay_v3;
+
+/** An item that can be stored in the local catalog (see {@link CatalogRepository}). */
+public interface CatalogNode {
+
+    /** Id used in the child URL (e.g. the event id in /event/{id}/rooms). */
+    String nodeId();
+
+    /** Label shown on the button. */
+    String nodeLabel();
+
+    /** The API's "updated_at", or null when this level does not return one. */
+    String nodeUpdatedAt();
+}
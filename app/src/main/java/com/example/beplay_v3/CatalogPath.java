@@ -0,0 +1,117 @@
+package com.example.beplay_v3;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Where the user is in the catalog drill-down: the ids picked so far, from the country
+ * down to the professional. Immutable; each level adds one id with {@link #child}.
+ *
+ * Travels as one intent extra in its API-path form ("idiomas/BR/categoria/9/event/117"),
+ * instead of a string extra per id.
+ */
+final class CatalogPath {
+
+    /** API path segment naming each id, in drill-down order. */
+    static final String[] SEGMENTS = {
+            "idiomas", "categoria", "event", "room", "region", "idioma", "accessibility", "professional"
+    };
+
+    static final CatalogPath EMPTY = new CatalogPath(new String[0]);
+
+    private final String[] ids;
+
+    final String codPais;
+    final String categoryId;
+    final String eventId;
+    final String roomId;
+    final String regionId;
+    final String languageId;
+    final String accessibilityId;
+    final String professionalId;
+
+    private CatalogPath(String[] ids) {
+        this.ids = ids;
+        codPais         = at(0);
+        categoryId      = at(1);
+        eventId         = at(2);
+        roomId          = at(3);
+        regionId        = at(4);
+        languageId      = at(5);
+        accessibilityId = at(6);
+        professionalId  = at(7);
+    }
+
+    static CatalogPath country(String codPais) {
+        return EMPTY.child(codPais);
+    }
+
+    /** The path to a deep link's professional. */
+    static CatalogPath of(DeepLink link) {
+        return country(link.codPais).child(link.categoryId).child(link.eventId).child(link.roomId)
+                .child(link.regionId).child(link.languageId).child(link.accessibilityId).child(link.professionalId);
+    }
+
+    /** Reads ids segment by segment ({@code idOf("event")}, ...), stopping at the first missing one. */
+    static CatalogPath from(Function<String, String> idOf) {
+        CatalogPath p = EMPTY;
+        for (String segment : SEGMENTS) {
+            String id = idOf.apply(segment);
+            if (isEmpty(id)) break;
+            p = p.child(id);
+        }
+        return p;
+    }
+
+    /** Parses {@link #toString()}; unknown or out-of-order segments end the path there. Never null. */
+    static CatalogPath parse(String s) {
+        if (s == null) return EMPTY;
+        String[] seg = s.split("/");
+        CatalogPath p = EMPTY;
+        for (int i = 0; i + 1 < seg.length && p.depth() < SEGMENTS.length; i += 2) {
+            if (!SEGMENTS[p.depth()].equals(seg[i]) || isEmpty(seg[i + 1])) break;
+            p = p.child(seg[i + 1]);
+        }
+        return p;
+    }
+
+    /** This path one level down. */
+    CatalogPath child(String id) {
+        if (isEmpty(id)) throw new IllegalArgumentException("empty id below " + this);
+        if (ids.length == SEGMENTS.length) throw new IllegalStateException("path is complete: " + this);
+        String[] next = Arrays.copyOf(ids, ids.length + 1);
+        next[ids.length] = id.trim();
+        return new CatalogPath(next);
+    }
+
+    /** Number of ids picked (0 = nothing, 1 = country, ... 8 = professional). */
+    int depth() {
+        return ids.length;
+    }
+
+    private String at(int i) {
+        return i < ids.length ? ids[i] : null;
+    }
+
+    private static boolean isEmpty(String s) { return s == null || s.trim().isEmpty(); }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CatalogPath && Arrays.equals(ids, ((CatalogPath) o).ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) sb.append('/');
+            sb.append(SEGMENTS[i]).append('/').append(ids[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,462 @@
+package com.example.beplay_v3;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import android.util.LruCache;
+
+import com.google.gson.Gson;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import retrofit2.Response;
+
+/**
+ * Offline-first catalog: every list screen reads its level from SQLite first,
+ * then syncs it from the API.
+ *
+ * The API only serves whole levels (there is no "changed since" query), so the network
+ * side is a conditional GET: an unchanged level comes back as a 304 without a body
+ * (see {@link ApiCall}) and is not synced again. When a level did change, the write is
+ * incremental: rows whose "updated_at" (or payload, for levels without one) and position
+ * are unchanged are left alone, and the screen is only re-rendered when something changed.
+ * Recently used levels are also kept in memory so a prefetched screen opens instantly.
+ * Names of every stored or synced event, room, region and accessibility are kept in a
+ * {@link CatalogIndex} for the voice "find" command.
+ */
+public final class CatalogRepository {
+
+    private static final String TAG = "CatalogRepository";
+    private static final String API_PREFIX = "/api/";
+
+    private static final int  MEMORY_LEVELS   = 24;
+    private static final long FRESH_MS        = 30_000;  // skip revalidation of a level synced this recently
+    private static final int  PREFETCH_BUDGET = 2;       // concurrent speculative requests
+
+    private static volatile CatalogRepository instance;
+
+    private final CatalogDatabase db;
+    private final Gson gson;
+    private final ExecutorService io = Executors.newSingleThreadExecutor();
+    private final Handler main = new Handler(Looper.getMainLooper());
+
+    // Recently opened/prefetched levels, keyed like the store
+    private final LruCache<String, Level> memory = new LruCache<>(MEMORY_LEVELS);
+
+    // Names across all levels, for find(); filled from the store at startup, then by every sync
+    private final CatalogIndex index = new CatalogIndex();
+
+    // Main thread only
+    private final ArrayDeque<Prefetch> pendingPrefetches = new ArrayDeque<>();
+    private int prefetchesInFlight = 0;
+    private int userLoadsInFlight = 0;
+
+    private CatalogRepository(Context appContext) {
+        db = new CatalogDatabase(appContext);
+        gson = BePlayApi.get(appContext).gson();
+        io.execute(this::indexStore);
+    }
+
+    public static CatalogRepository get(Context ctx) {
+        CatalogRepository local = instance;
+        if (local == null) {
+            synchronized (CatalogRepository.class) {
+                local = instance;
+                if (local == null) {
+                    local = new CatalogRepository(ctx.getApplicationContext());
+                    instance = local;
+                }
+            }
+        }
+        return local;
+    }
+
+    /**
+     * Store-first load of one catalog level. Call on the main thread.
+     * A level that is still in memory (e.g. prefetched while its button had focus)
+     * is delivered synchronously, and not re-fetched if it was synced moments ago.
+     * Nothing is delivered once {@code call} is canceled (e.g. via {@link ApiCall#bindTo}).
+     *
+     * @param call     API call for the level (its URL path is the store key)
+     * @param itemType item class stored for the level
+     * @param items    pulls the item array out of the response body (envelope or plain array)
+     */
+    public <T, I extends CatalogNode> void load(ApiCall<T> call, Class<I> itemType,
+                                                Function<T, I[]> items, CatalogCallback<I> callback) {
+        String path = pathKey(call);
+        Level memo = memory.get(path);
+        if (memo != null) {
+            callback.onItems(memo.items(), true);
+            if (memo.isFresh()) return;
+        }
+        boolean shown = memo != null;
+
+        userLoadsInFlight++;
+        io.execute(() -> {
+            List<I> stored = shown ? Collections.emptyList() : read(path, itemType);
+            boolean hasStored = shown || !stored.isEmpty();
+            AtomicBoolean delivered = new AtomicBoolean(hasStored);
+            if (!stored.isEmpty()) {
+                remember(path, stored, false);
+                main.post(() -> { if (!call.isCanceled()) callback.onItems(stored, true); });
+            }
+            call.enqueue(new ApiCallback<T>() {
+                @Override public void onResponse(Response<T> response, boolean fromCache) {
+                    if (!response.isSuccessful()) {
+                        if (!hasStored) callback.onHttpError(response.code());
+                        return;
+                    }
+                    T body = response.body();
+                    I[] arr = (body != null) ? items.apply(body) : null;
+                    List<I> fresh = (arr != null) ? Arrays.asList(arr) : Collections.emptyList();
+                    io.execute(() -> {
+                        boolean changed = sync(path, itemType.getSimpleName(), fresh);
+                        remember(path, fresh, !fromCache);
+                        if (changed || !delivered.getAndSet(true)) {
+                            // The screen may have been destroyed while we were syncing
+                            main.post(() -> { if (!call.isCanceled()) callback.onItems(fresh, false); });
+                        }
+                    });
+                }
+
+                @Override public void onFailure(Throwable t) {
+                    if (!hasStored) callback.onFailure(t);
+                }
+
+                @Override public void onFinished() {
+                    userLoadsInFlight--;
+                    drainPrefetches();
+                }
+            });
+        });
+    }
+
+    // ===== Find =====
+
+    /**
+     * Events, rooms, regions and accessibilities whose name matches {@code query} (case,
+     * accents and one typo ignored), best first. Only levels the app has fetched are known.
+     * Cheap enough to call on every keystroke from the main thread.
+     */
+    List<CatalogIndex.Entry> find(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    // Runs once on io, before any sync can touch the index
+    private void indexStore() {
+        long t0 = SystemClock.elapsedRealtime();
+        String parent = null;
+        List<StoredNode> level = new ArrayList<>();
+        try (Cursor c = db.getReadableDatabase().query(CatalogDatabase.T_NODE,
+                new String[]{CatalogDatabase.C_PARENT, CatalogDatabase.C_NODE_ID, CatalogDatabase.C_LABEL},
+                null, null, null, null,
+                CatalogDatabase.C_PARENT + " ASC, " + CatalogDatabase.C_POSITION + " ASC")) {
+            while (c.moveToNext()) {
+                String path = c.getString(0);
+                if (!path.equals(parent)) {
+                    if (parent != null) index.putLevel(parent, level);
+                    parent = path;
+                    level = new ArrayList<>();
+                }
+                if (CatalogIndex.kindOf(path) != null) level.add(new StoredNode(c.getString(1), c.getString(2)));
+            }
+            if (parent != null) index.putLevel(parent, level);
+        } catch (Exception e) {
+            Log.w(TAG, "indexing the store failed", e);
+        }
+        Log.d(TAG, "indexed " + index.size() + " names in " + (SystemClock.elapsedRealtime() - t0) + " ms");
+    }
+
+    // Just the columns the index needs, without parsing the row's JSON
+    private static final class StoredNode implements CatalogNode {
+        final String id;
+        final String label;
+
+        StoredNode(String id, String label) {
+            this.id = id;
+            this.label = label;
+        }
+
+        @Override public String nodeId() { return id; }
+        @Override public String nodeLabel() { return label; }
+        @Override public String nodeUpdatedAt() { return null; }
+    }
+
+    // ===== Speculative prefetch =====
+
+    /**
+     * Loads a level into memory (and the store) ahead of the user opening it.
+     * Runs at lower priority than {@link #load}: at most {@link #PREFETCH_BUDGET} at a time,
+     * and queued prefetches wait while any user-initiated load is in flight.
+     * Call on the main thread.
+     */
+    public <T, I extends CatalogNode> Prefetch prefetch(ApiCall<T> call, Class<I> itemType, Function<T, I[]> items) {
+        String path = pathKey(call);
+        Level memo = memory.get(path);
+        if (memo != null && memo.isFresh()) return Prefetch.DONE;
+
+        Prefetch p = new Prefetch(call);
+        p.start = () -> io.execute(() -> {
+            if (memory.get(path) == null) {
+                List<I> stored = read(path, itemType);
+                if (!stored.isEmpty()) {
+                    remember(path, stored, false);
+                    main.post(p::complete); // usable now, the network copy may still refresh it
+                }
+            }
+            call.enqueue(new ApiCallback<T>() {
+                @Override public void onResponse(Response<T> response, boolean fromCache) {
+                    T body = response.body();
+                    if (!response.isSuccessful() || body == null) return;
+                    I[] arr = items.apply(body);
+                    List<I> fresh = (arr != null) ? Arrays.asList(arr) : Collections.emptyList();
+                    io.execute(() -> {
+                        sync(path, itemType.getSimpleName(), fresh);
+                        remember(path, fresh, !fromCache);
+                    });
+                }
+
+                @Override public void onFailure(Throwable t) {
+                    Log.d(TAG, "prefetch failed for " + path + ": " + t.getMessage());
+                }
+
+                @Override public void onFinished() {
+                    prefetchDone();
+                    // io is serial: this runs after any sync queued by onResponse
+                    io.execute(() -> main.post(p::complete));
+                }
+            });
+        });
+        schedule(p);
+        return p;
+    }
+
+    /**
+     * Same as {@link #prefetch(ApiCall, Class, Function)} for endpoints that are not list levels
+     * (e.g. an accessibility's detail): only the HTTP cache is warmed.
+     */
+    public <T> Prefetch prefetch(ApiCall<T> call) {
+        Prefetch p = new Prefetch(call);
+        p.start = () -> call.enqueue(new ApiCallback<T>() {
+            @Override public void onResponse(Response<T> response, boolean fromCache) { }
+            @Override public void onFailure(Throwable t) { }
+            @Override public void onFinished() {
+                prefetchDone();
+                p.complete();
+            }
+        });
+        schedule(p);
+        return p;
+    }
+
+    private void schedule(Prefetch p) {
+        pendingPrefetches.add(p);
+        drainPrefetches();
+    }
+
+    private void prefetchDone() {
+        prefetchesInFlight--;
+        drainPrefetches();
+    }
+
+    private void drainPrefetches() {
+        while (userLoadsInFlight == 0 && prefetchesInFlight < PREFETCH_BUDGET) {
+            Prefetch next = pendingPrefetches.poll();
+            if (next == null) return;
+            if (next.call.isCanceled()) continue;
+            next.started = true;
+            prefetchesInFlight++;
+            next.start.run();
+        }
+    }
+
+    /** Handle for a scheduled prefetch. Main thread only. */
+    public static final class Prefetch {
+        static final Prefetch DONE = new Prefetch(null);
+
+        private final ApiCall<?> call;
+        private Runnable start;
+        private boolean started;
+        private boolean done;
+        private Runnable onDone;
+
+        private Prefetch(ApiCall<?> call) {
+            this.call = call;
+            this.done = (call == null);
+        }
+
+        /**
+         * Runs {@code r} once the level is in memory (from the store or the network),
+         * or the prefetch ended without it. Runs right away if that already happened.
+         */
+        public void whenDone(Runnable r) {
+            if (done) r.run(); else onDone = r;
+        }
+
+        private void complete() {
+            if (done) return;
+            done = true;
+            Runnable r = onDone;
+            onDone = null;
+            if (r != null) r.run();
+        }
+
+        /** Drops the prefetch, aborting the request if it is already on the wire. */
+        public void cancel() {
+            if (call != null) call.cancel();
+            if (!started) complete(); // a queued one will never run
+        }
+
+        /** Drops the prefetch only if it has not started yet; an in-flight one is left to land. */
+        public void cancelIfQueued() {
+            if (!started) cancel();
+        }
+    }
+
+    // ===== In-memory levels =====
+
+    private <I> void remember(String path, List<I> items, boolean fromNetwork) {
+        memory.put(path, new Level(items, fromNetwork ? SystemClock.elapsedRealtime() : 0L));
+    }
+
+    private static final class Level {
+        final List<?> items;
+        final long syncedAt; // 0 = only read from the store, never confirmed by the API
+
+        Level(List<?> items, long syncedAt) {
+            this.items = items;
+            this.syncedAt = syncedAt;
+        }
+
+        boolean isFresh() {
+            return syncedAt != 0L && SystemClock.elapsedRealtime() - syncedAt < FRESH_MS;
+        }
+
+        @SuppressWarnings("unchecked")
+        <I> List<I> items() { return (List<I>) items; }
+    }
+
+    /** Rows for one level, in API order. Runs on the caller's thread. */
+    public <I> List<I> read(String path, Class<I> itemType) {
+        List<I> out = new ArrayList<>();
+        try (Cursor c = db.getReadableDatabase().query(CatalogDatabase.T_NODE,
+                new String[]{CatalogDatabase.C_JSON},
+                CatalogDatabase.C_PARENT + " = ?", new String[]{path},
+                null, null, CatalogDatabase.C_POSITION + " ASC")) {
+            while (c.moveToNext()) {
+                I item = gson.fromJson(c.getString(0), itemType);
+                if (item != null) out.add(item);
+            }
+        } catch (Exception e) {
+            Log.w(TAG, "read failed for " + path, e);
+            out.clear();
+        }
+        return out;
+    }
+
+    /**
+     * Incremental sync of one level. Only new/changed rows are written, rows missing
+     * from the API are removed. Returns true if anything changed.
+     */
+    <I extends CatalogNode> boolean sync(String path, String kind, List<I> items) {
+        SQLiteDatabase w = db.getWritableDatabase();
+        boolean changed = false;
+        w.beginTransaction();
+        try {
+            Map<String, StoredRow> existing = new HashMap<>();
+            try (Cursor c = w.query(CatalogDatabase.T_NODE,
+                    new String[]{CatalogDatabase.C_NODE_ID, CatalogDatabase.C_POSITION,
+                            CatalogDatabase.C_UPDATED_AT, CatalogDatabase.C_JSON},
+                    CatalogDatabase.C_PARENT + " = ?", new String[]{path},
+                    null, null, null)) {
+                while (c.moveToNext()) {
+                    existing.put(c.getString(0), new StoredRow(c.getInt(1), c.getString(2), c.getString(3)));
+                }
+            }
+
+            int position = 0;
+            for (I item : items) {
+                if (item == null || item.nodeId() == null) continue;
+                String id = item.nodeId();
+                StoredRow old = existing.remove(id);
+                String updatedAt = item.nodeUpdatedAt();
+
+                String json = null;
+                boolean dirty;
+                if (old == null || old.position != position) {
+                    dirty = true;
+                } else if (updatedAt != null) {
+                    // Level exposes updated_at: trust it, skip serializing unchanged rows
+                    dirty = !updatedAt.equals(old.updatedAt);
+                } else {
+                    json = gson.toJson(item);
+                    dirty = !json.equals(old.json);
+                }
+
+                if (dirty) {
+                    if (json == null) json = gson.toJson(item);
+                    ContentValues v = new ContentValues();
+                    v.put(CatalogDatabase.C_PARENT, path);
+                    v.put(CatalogDatabase.C_NODE_ID, id);
+                    v.put(CatalogDatabase.C_KIND, kind);
+                    v.put(CatalogDatabase.C_POSITION, position);
+                    v.put(CatalogDatabase.C_LABEL, item.nodeLabel());
+                    v.put(CatalogDatabase.C_UPDATED_AT, updatedAt);
+                    v.put(CatalogDatabase.C_JSON, json);
+                    w.insertWithOnConflict(CatalogDatabase.T_NODE, null, v, SQLiteDatabase.CONFLICT_REPLACE);
+                    changed = true;
+                }
+                position++;
+            }
+
+            // Whatever is left was removed upstream
+            for (String goneId : existing.keySet()) {
+                w.delete(CatalogDatabase.T_NODE,
+                        CatalogDatabase.C_PARENT + " = ? AND " + CatalogDatabase.C_NODE_ID + " = ?",
+                        new String[]{path, goneId});
+                changed = true;
+            }
+            w.setTransactionSuccessful();
+        } catch (Exception e) {
+            Log.w(TAG, "sync failed for " + path, e);
+            changed = true; // let the screen show what the API returned
+        } finally {
+            w.endTransaction();
+        }
+        if (changed) index.putLevel(path, items);
+        return changed;
+    }
+
+    /** "idiomas/br/categoria/9/events" for https://console.beplay.io/api/idiomas/br/categoria/9/events */
+    static String pathKey(ApiCall<?> call) {
+        String p = call.request().url().encodedPath();
+        return p.startsWith(API_PREFIX) ? p.substring(API_PREFIX.length()) : p;
+    }
+
+    private static final class StoredRow {
+        final int position;
+        final String updatedAt;
+        final String json;
+
+        StoredRow(int position, String updatedAt, String json) {
+            this.position = position;
+            this.updatedAt = updatedAt;
+            this.json = json;
+        }
+    }
+}
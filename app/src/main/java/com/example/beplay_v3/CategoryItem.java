@@ -2,7 +2,7 @@ package com.example.beplay_v3;
 
 import com.google.gson.annotations.SerializedName;
 
-public class CategoryItem {
+public class CategoryItem implements CatalogNode {
     @SerializedName("id")                 public String id;
     @SerializedName("nome")               public String nome;
     @SerializedName("nomeIdioma")         public String nomeIdioma;
@@ -13,4 +13,9 @@ public class CategoryItem {
     @SerializedName("codigoBandeira")     public String codigoBandeira;
     @SerializedName("codigoPais")         public String codigoPais; // aka codPais in previous list
     @SerializedName("arquivoImagem")      public String arquivoImagem;
+
+    // ===== CatalogNode =====
+    @Override public String nodeId() { return id; }
+    @Override public String nodeLabel() { return nome; }
+    @Override public String nodeUpdatedAt() { return null; }
 }
@@ -0,0 +1,8 @@
+package com.example.beplay_v3;
+
+import com.google.gson.annotations.SerializedName;
+
+// { "channel": { "id_app", "token", "channel_name", "accessibility": { ... } } }
+public class ChannelEnvelope {
+    @SerializedName("channel") public ChannelInfo channel;
+}
@@ -0,0 +1,11 @@
+package com.example.beplay_v3;
+
+import com.google.gson.annotations.SerializedName;
+
+public class ChannelInfo {
+    @SerializedName("id_app")        public String appId;
+    @SerializedName("token")         public String token;
+    @SerializedName("channel_name")  public String channelName;
+    @SerializedName("id_channel")    public String idChannel;     // older payloads only
+    @SerializedName("accessibility") public AccessibilityItem accessibility;
+}
@@ -0,0 +1,81 @@
+package com.example.beplay_v3;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Classic three-state breaker for the BePlay API.
+ * CLOSED: requests flow, consecutive failures are counted.
+ * OPEN: after {@code threshold} failures in a row, requests fail fast for {@code openMs}
+ *       (screens keep showing their cached/stored copy).
+ * HALF_OPEN: after the cool-down one trial request is let through; its outcome closes or re-opens,
+ *            and canceling it re-opens too.
+ * Thread-safe.
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int threshold;
+    private final long openMs;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int failures = 0;
+    private long openedAt = 0L;
+    private boolean trialInFlight = false;
+
+    CircuitBreaker(int threshold, long openMs, LongSupplier clock) {
+        this.threshold = threshold;
+        this.openMs = openMs;
+        this.clock = clock;
+    }
+
+    /** True if a request may go out now. In HALF_OPEN only the first caller gets through. */
+    synchronized boolean allow() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openMs) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialInFlight) return false;
+                trialInFlight = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= threshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            trialInFlight = false;
+        }
+    }
+
+    /**
+     * The HALF_OPEN trial was canceled before it had an outcome (screen left, hedge lost...).
+     * Nothing was learned about the server, so the breaker goes back to OPEN for another
+     * cool-down; without this the trial would stay "in flight" and block every request.
+     */
+    synchronized void onCanceled() {
+        if (state != State.HALF_OPEN || !trialInFlight) return;
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        trialInFlight = false;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.beplay_v3;
+
+import java.io.IOException;
+
+/** The API looked unhealthy, so {@link FetchPolicy} failed the request without sending it. */
+public final class CircuitOpenException extends IOException {
+
+    public CircuitOpenException() {
+        super("Server temporarily unavailable");
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.beplay_v3;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Full-path channel QR payload. Two spellings are accepted:
+ *
+ *   beplay://channel?idiomas=br&categoria=9&event=117&room=4&region=5&idioma=6&accessibility=8&professional=11
+ *   https://console.beplay.io/api/idiomas/br/categoria/9/event/117/room/4/region/5/idioma/6/accessibility/8/professional/11
+ *
+ * (the second one is just the API path of the professional endpoint, so it can be copied from the console).
+ */
+public final class DeepLink {
+
+    private static final Pattern ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    public final String codPais;
+    public final String categoryId;
+    public final String eventId;
+    public final String roomId;
+    public final String regionId;
+    public final String languageId;
+    public final String accessibilityId;
+    public final String professionalId;
+
+    private DeepLink(Map<String, String> ids) {
+        codPais         = ids.get("idiomas");
+        categoryId      = ids.get("categoria");
+        eventId         = ids.get("event");
+        roomId          = ids.get("room");
+        regionId        = ids.get("region");
+        languageId      = ids.get("idioma");
+        accessibilityId = ids.get("accessibility");
+        professionalId  = ids.get("professional");
+    }
+
+    /** Returns the link, or null if {@code raw} is not a (complete, well-formed) channel deep link. */
+    public static DeepLink parse(String raw) {
+        if (raw == null) return null;
+        URI uri;
+        try {
+            uri = new URI(raw.trim());
+        } catch (Exception e) {
+            return null;
+        }
+        String scheme = (uri.getScheme() != null) ? uri.getScheme().toLowerCase(Locale.US) : "";
+        String host   = (uri.getHost() != null) ? uri.getHost().toLowerCase(Locale.US) : "";
+        boolean ours = "beplay".equals(scheme)
+                || (("https".equals(scheme) || "http".equals(scheme))
+                    && (host.equals("beplay.io") || host.endsWith(".beplay.io")));
+        if (!ours) return null;
+
+        Map<String, String> ids = new HashMap<>();
+
+        // Path form: /.../idiomas/{id}/categoria/{id}/.../professional/{id}
+        String path = uri.getRawPath();
+        if (path != null) {
+            String[] seg = path.split("/");
+            for (int i = 0; i + 1 < seg.length; i++) {
+                String key = canonical(seg[i]);
+                if (key != null) ids.put(key, decode(seg[i + 1]));
+            }
+        }
+
+        // Query form (also overrides path segments)
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq <= 0) continue;
+                String key = canonical(decode(pair.substring(0, eq)));
+                if (key != null) ids.put(key, decode(pair.substring(eq + 1)));
+            }
+        }
+
+        for (String k : new String[]{"idiomas", "categoria", "event", "room", "region", "idioma", "accessibility", "professional"}) {
+            String v = ids.get(k);
+            if (v == null || !ID.matcher(v).matches()) return null;
+        }
+        return new DeepLink(ids);
+    }
+
+    private static String canonical(String key) {
+        switch (key.toLowerCase(Locale.US)) {
+            case "idiomas": case "codpais": case "country":  return "idiomas";
+            case "categoria": case "category":              return "categoria";
+            case "event":                                   return "event";
+            case "room":                                    return "room";
+            case "region":                                  return "region";
+            case "idioma": case "language":                 return "idioma";
+            case "accessibility":                           return "accessibility";
+            case "professional":                            return "professional";
+            default:                                        return null;
+        }
+    }
+
+    private static String decode(String s) {
+        try {
+            return URLDecoder.decode(s, StandardCharsets.UTF_8.name()).trim();
+        } catch (Exception e) {
+            return s;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "idiomas/" + codPais + "/categoria/" + categoryId + "/event/" + eventId + "/room/" + roomId
+                + "/region/" + regionId + "/idioma/" + languageId + "/accessibility/" + accessibilityId
+                + "/professional/" + professionalId;
+    }
+}
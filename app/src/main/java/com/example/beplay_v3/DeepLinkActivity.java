@@ -0,0 +1,86 @@
+package com.example.beplay_v3;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.util.Log;
+import android.widget.Toast;
+
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+
+/**
+ * Scan-to-channel: resolves a full-path {@link DeepLink} QR and opens AgoraChannelActivity
+ * directly, with MainActivity underneath so Back lands in the catalog.
+ * If the credentials cannot be fetched, falls back to the catalog's channel level (which can retry);
+ * if the catalog no longer lists the target, goes back to the scanner.
+ */
+public class DeepLinkActivity extends AppCompatActivity {
+
+    private static final String TAG = "DeepLinkActivity";
+
+    public static final String EXTRA_LINK = "extra_deep_link";
+
+    @Override
+    protected void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+
+        // No setContentView(): we don't show any UI here
+
+        DeepLink link = DeepLink.parse(getIntent().getStringExtra(EXTRA_LINK));
+        if (link == null) {
+            Toast.makeText(this, "Invalid channel QR", Toast.LENGTH_SHORT).show();
+            backToScanner();
+            return;
+        }
+
+        SessionManager session = SessionManager.get(this);
+        if (!session.isQRAuthenticated() || session.isQRExpired()) {
+            Toast.makeText(this, "Scan your access QR code first", Toast.LENGTH_SHORT).show();
+            backToScanner();
+            return;
+        }
+
+        Toast.makeText(this, "Opening channel…", Toast.LENGTH_SHORT).show();
+        Runnable cancel = new DeepLinkResolver(BePlayApi.get(this)).resolve(link, new DeepLinkResolver.Listener() {
+            @Override public void onResolved(ChannelInfo channel) {
+                Intent go = AgoraChannelActivity.joinIntent(DeepLinkActivity.this, channel);
+                if (go == null) {
+                    // Let the professional screen explain what is missing
+                    openProfessional(link);
+                    return;
+                }
+                startActivities(new Intent[]{ catalogRoot(), go });
+                finish();
+            }
+
+            @Override public void onStale(String level) {
+                Log.w(TAG, "stale deep link at " + level + ": " + link);
+                Toast.makeText(DeepLinkActivity.this,
+                        "This QR code is out of date (" + level + " not found)", Toast.LENGTH_LONG).show();
+                backToScanner();
+            }
+
+            @Override public void onFailure(Throwable t) {
+                Log.w(TAG, "deep link resolve failed: " + t.getMessage());
+                openProfessional(link);
+            }
+        });
+        CancelOnDestroy.bind(this, cancel);
+    }
+
+    private void openProfessional(DeepLink link) {
+        startActivities(new Intent[]{ catalogRoot(), CatalogHostActivity.intent(this, CatalogPath.of(link)) });
+        finish();
+    }
+
+    private Intent catalogRoot() {
+        return new Intent(this, MainActivity.class)
+                .addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+    }
+
+    private void backToScanner() {
+        startActivity(new Intent(this, BarcodeScannerActivity.class)
+                .addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK));
+        finish();
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.beplay_v3;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Resolves a {@link DeepLink} to channel credentials in one round of parallel requests
+ * instead of walking the nine catalog screens.
+ *
+ * The professional endpoint (the credentials) is requested right away. At the same time
+ * each intermediate level is checked to still contain the next id, so a stale QR is
+ * reported instead of joining a channel the catalog no longer lists. A level that cannot
+ * be checked (network error, or still pending {@link #VALIDATION_GRACE_MS} after the
+ * credentials arrived) does not block the join.
+ *
+ * Main thread only; all callbacks arrive on the main thread.
+ */
+final class DeepLinkResolver {
+
+    private static final String TAG = "DeepLinkResolver";
+
+    static final long VALIDATION_GRACE_MS = 1_500;
+
+    interface Listener {
+        void onResolved(ChannelInfo channel);
+        /** {@code level} (e.g. "room") no longer contains the id from the QR code. */
+        void onStale(String level);
+        void onFailure(Throwable t);
+    }
+
+    private final BePlayApi api;
+    private final Handler main = new Handler(Looper.getMainLooper());
+
+    DeepLinkResolver(BePlayApi api) {
+        this.api = api;
+    }
+
+    /** Starts resolving; run the returned handle to abandon it (nothing is delivered afterwards). */
+    Runnable resolve(DeepLink link, Listener listener) {
+        Resolution r = new Resolution(listener);
+        BePlayService s = api.service();
+
+        r.check("category", s.categories(link.codPais),
+                arr -> containsId(arr, link.categoryId));
+        r.check("event", s.events(link.codPais, link.categoryId),
+                arr -> containsId(arr, link.eventId));
+        r.check("room", s.rooms(link.codPais, link.categoryId, link.eventId),
+                env -> containsId(env.rooms, link.roomId));
+        r.check("region", s.regions(link.codPais, link.categoryId, link.eventId, link.roomId),
+                env -> containsId(env.idioma, link.regionId));
+        r.check("language", s.regionLanguages(link.codPais, link.categoryId, link.eventId, link.roomId, link.regionId),
+                env -> containsId(env.language, link.languageId));
+        r.check("accessibility", s.accessibilities(link.codPais, link.categoryId, link.eventId, link.roomId,
+                        link.regionId, link.languageId),
+                env -> containsId(env.accessibility, link.accessibilityId));
+        r.check("professional", s.accessibility(link.codPais, link.categoryId, link.eventId, link.roomId,
+                        link.regionId, link.languageId, link.accessibilityId),
+                env -> env.professional != null && env.professional.id != null
+                        && link.professionalId.equals(String.valueOf(env.professional.id)));
+
+        Call<ChannelEnvelope> channel = s.professional(link.codPais, link.categoryId, link.eventId, link.roomId,
+                link.regionId, link.languageId, link.accessibilityId, link.professionalId);
+        r.cancelChannel = api.policy().enqueue(channel, new Callback<ChannelEnvelope>() {
+            @Override public void onResponse(Call<ChannelEnvelope> call, Response<ChannelEnvelope> response) {
+                r.onChannel(response);
+            }
+
+            @Override public void onFailure(Call<ChannelEnvelope> call, Throwable t) {
+                r.fail(t);
+            }
+        });
+        return r::cancel;
+    }
+
+    static boolean containsId(CatalogNode[] items, String id) {
+        if (items == null) return false;
+        for (CatalogNode n : items) {
+            if (n != null && id.equals(n.nodeId())) return true;
+        }
+        return false;
+    }
+
+    // ===== One resolution =====
+
+    private final class Resolution {
+        final Listener listener;
+        final List<ApiCall<?>> checks = new ArrayList<>();
+        // level -> TRUE (contains id), FALSE (stale), null (unknown / pending)
+        final Map<String, Boolean> verdicts = new LinkedHashMap<>();
+        int pending = 0;
+        Runnable cancelChannel;
+        ChannelInfo credentials;
+        Response<ChannelEnvelope> channelError;
+        boolean done = false;
+
+        final Runnable graceOver = this::settle;
+
+        Resolution(Listener listener) {
+            this.listener = listener;
+        }
+
+        <T> void check(String level, ApiCall<T> call, Predicate<T> contains) {
+            checks.add(call);
+            verdicts.put(level, null);
+            pending++;
+            call.enqueue(new ApiCallback<T>() {
+                @Override public void onResponse(Response<T> response, boolean fromCache) {
+                    T body = response.body();
+                    if (response.isSuccessful() && body != null) {
+                        // A later network copy overrides the cached verdict
+                        verdicts.put(level, contains.test(body));
+                    } else if (response.code() == 404) {
+                        verdicts.put(level, false);
+                    }
+                }
+
+                @Override public void onFailure(Throwable t) {
+                    Log.d(TAG, "could not check " + level + ": " + t.getMessage());
+                }
+
+                @Override public void onFinished() {
+                    pending--;
+                    if (Boolean.FALSE.equals(verdicts.get(level))) {
+                        stale(level);
+                    } else if (pending == 0) {
+                        settle();
+                    }
+                }
+            });
+        }
+
+        void onChannel(Response<ChannelEnvelope> response) {
+            if (done) return;
+            ChannelEnvelope env = response.isSuccessful() ? response.body() : null;
+            if (env != null && env.channel != null) {
+                credentials = env.channel;
+            } else {
+                channelError = response;
+            }
+            if (pending == 0) {
+                settle();
+            } else {
+                main.postDelayed(graceOver, VALIDATION_GRACE_MS);
+            }
+        }
+
+        // Credentials (or their error) are in and validation finished or ran out of time
+        void settle() {
+            if (done || (credentials == null && channelError == null)) return;
+            String staleLevel = firstStale();
+            if (staleLevel != null) {
+                stale(staleLevel);
+            } else if (credentials != null) {
+                finish();
+                listener.onResolved(credentials);
+            } else {
+                finish();
+                listener.onFailure(new IOException("HTTP " + channelError.code()));
+            }
+        }
+
+        void stale(String level) {
+            if (done) return;
+            cancel();
+            listener.onStale(level);
+        }
+
+        void fail(Throwable t) {
+            if (done) return;
+            cancel();
+            listener.onFailure(t);
+        }
+
+        String firstStale() {
+            for (Map.Entry<String, Boolean> e : verdicts.entrySet()) {
+                if (Boolean.FALSE.equals(e.getValue())) return e.getKey();
+            }
+            return null;
+        }
+
+        // Resolved: leave remaining checks running, they just refresh the HTTP cache
+        void finish() {
+            done = true;
+            main.removeCallbacks(graceOver);
+        }
+
+        void cancel() {
+            done = true;
+            main.removeCallbacks(graceOver);
+            for (ApiCall<?> c : checks) c.cancel();
+            if (cancelChannel != null) {
+                cancelChannel.run();
+                cancelChannel = null;
+            }
+        }
+    }
+}
@@ -5,7 +5,6 @@ import android.os.Bundle;
 import android.widget.TextView;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 
@@ -24,13 +23,15 @@ public class EventDetailActivity extends AppCompatActivity {
     public static final String EXTRA_EVENT_ID = "extra_event_id";
 
     private TextView tv;
-    private final OkHttpClient client = new OkHttpClient();
-    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private OkHttpClient client;
+    private Gson gson;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_event_detail);
+        client = BePlayApi.get(this).client(); // shared pool/dispatcher
+        gson = BePlayApi.get(this).prettyGson(); // shared adapters, no per-screen reflection
 
         tv = findViewById(R.id.tvEventDetail);
 
@@ -53,8 +54,11 @@ public class EventDetailActivity extends AppCompatActivity {
 
     private void fetch(String url) {
         Request req = new Request.Builder().url(url).get().build();
-        client.newCall(req).enqueue(new Callback() {
+        Call call = client.newCall(req);
+        CancelOnDestroy.bind(this, call::cancel);
+        call.enqueue(new Callback() {
             @Override public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) return; // screen destroyed
                 runOnUiThread(() -> tv.setText("Request failed:\n" + e.getMessage()));
             }
 
@@ -2,7 +2,7 @@ package com.example.beplay_v3;
 
 import com.google.gson.annotations.SerializedName;
 
-public class EventItem {
+public class EventItem implements CatalogNode {
     @SerializedName("id")            public Integer id;
     @SerializedName("eventName")     public String eventName;
     @SerializedName("moreDetails")   public String moreDetails;
@@ -42,4 +42,9 @@ public class EventItem {
         @SerializedName("is_temp")        public String isTemp;
     }
     @SerializedName("client") public Client client;
+
+    // ===== CatalogNode =====
+    @Override public String nodeId() { return id == null ? null : String.valueOf(id); }
+    @Override public String nodeLabel() { return eventName; }
+    @Override public String nodeUpdatedAt() { return updatedAt; }
 }
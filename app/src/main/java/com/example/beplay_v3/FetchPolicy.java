@@ -0,0 +1,256 @@
+package com.example.beplay_v3;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Invocation;
+import retrofit2.Response;
+
+/**
+ * Resilience around one Retrofit call (catalog levels via {@link InFlightCalls}, and the
+ * professional/channel call):
+ *
+ * 1) Retries: idempotent GETs are retried on I/O errors and 408/429/5xx with
+ *    full-jitter exponential backoff, at most {@link #MAX_ATTEMPTS} attempts.
+ * 2) Hedging: if a GET is still running after the endpoint's p95 latency, a duplicate
+ *    is sent; whichever answers first wins and the other is canceled.
+ * 3) Circuit breaker: after repeated failures requests fail fast with
+ *    {@link CircuitOpenException} for a while, so screens keep their cached/stored copy
+ *    instead of waiting on timeouts.
+ *
+ * Latencies are recorded per endpoint (Retrofit service method), so the hedging
+ * threshold follows what each endpoint actually does on the current network.
+ */
+public final class FetchPolicy {
+
+    private static final String TAG = "FetchPolicy";
+
+    static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_BASE_MS = 300;
+    private static final long BACKOFF_CAP_MS  = 3_000;
+
+    // Hedge at p95 once we know the endpoint; before that use a conservative default
+    private static final double HEDGE_PERCENTILE = 95.0;
+    private static final int    HEDGE_MIN_SAMPLES = 10;
+    private static final long   HEDGE_DEFAULT_MS = 2_000;
+    private static final long   HEDGE_MIN_MS     = 250;
+    private static final long   HEDGE_MAX_MS     = 5_000;
+
+    private static final int  BREAKER_THRESHOLD = 5;
+    private static final long BREAKER_OPEN_MS   = 30_000;
+
+    private final LatencyTracker latencies = new LatencyTracker();
+    private final CircuitBreaker breaker =
+            new CircuitBreaker(BREAKER_THRESHOLD, BREAKER_OPEN_MS, SystemClock::elapsedRealtime);
+    private final Random random = new Random();
+    private final ScheduledExecutorService timers = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "fetch-policy");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Runs {@code call} under the policy. {@code callback} gets exactly one outcome, on whatever
+     * thread {@code call} delivers on; nothing is delivered after the returned handle is run.
+     */
+    public <T> Runnable enqueue(Call<T> call, Callback<T> callback) {
+        Exchange<T> exchange = new Exchange<>(call, callback);
+        exchange.start();
+        return exchange::cancel;
+    }
+
+    /** Current hedging delay for the endpoint {@code request} belongs to. */
+    long hedgeDelayMs(Request request) {
+        long p = latencies.percentile(endpoint(request), HEDGE_PERCENTILE, HEDGE_MIN_SAMPLES);
+        if (p < 0) return HEDGE_DEFAULT_MS;
+        return Math.max(HEDGE_MIN_MS, Math.min(HEDGE_MAX_MS, p));
+    }
+
+    // Full jitter: uniform in [0, min(cap, base * 2^retry)]
+    long backoffMs(int retry) {
+        long ceiling = Math.min(BACKOFF_CAP_MS, BACKOFF_BASE_MS << Math.min(retry, 10));
+        return (long) (random.nextDouble() * ceiling);
+    }
+
+    static String endpoint(Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        return (invocation != null) ? invocation.method().getName() : request.url().encodedPath();
+    }
+
+    static boolean isRetryable(int code) {
+        return code == 408 || code == 429 || code >= 500;
+    }
+
+    // ===== One logical request (original + retries + hedge) =====
+
+    private final class Exchange<T> {
+        final Call<T> original;
+        final Callback<T> callback;
+        final boolean idempotent;
+        final String endpoint;
+
+        final List<Call<T>> live = new ArrayList<>();
+        Call<T> trial; // the live attempt holding the breaker's HALF_OPEN trial, if any
+        ScheduledFuture<?> timer;
+        int attempts = 0;
+        boolean hedged = false;
+        boolean done = false;
+
+        Exchange(Call<T> original, Callback<T> callback) {
+            this.original = original;
+            this.callback = callback;
+            this.idempotent = "GET".equals(original.request().method());
+            this.endpoint = endpoint(original.request());
+        }
+
+        void start() {
+            if (!breaker.allow()) {
+                fail(new CircuitOpenException());
+                return;
+            }
+            synchronized (this) {
+                launch(original);
+                if (idempotent) {
+                    timer = timers.schedule(this::hedge, hedgeDelayMs(original.request()), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        void cancel() {
+            List<Call<T>> running;
+            synchronized (this) {
+                if (done) return;
+                done = true;
+                if (timer != null) timer.cancel(false);
+                running = new ArrayList<>(live);
+                live.clear();
+            }
+            for (Call<T> c : running) c.cancel();
+        }
+
+        // Caller holds the lock and has just been let through by breaker.allow(). Still HALF_OPEN
+        // right after that means this attempt is the trial: only its outcome (or cancel) ends it.
+        private void launch(Call<T> attempt) {
+            if (breaker.state() == CircuitBreaker.State.HALF_OPEN) trial = attempt;
+            attempts++;
+            live.add(attempt);
+            long t0 = SystemClock.elapsedRealtime();
+            attempt.enqueue(new Callback<T>() {
+                @Override public void onResponse(Call<T> c, Response<T> response) {
+                    onAttemptResponse(c, response, SystemClock.elapsedRealtime() - t0);
+                }
+
+                @Override public void onFailure(Call<T> c, Throwable t) {
+                    onAttemptFailure(c, t);
+                }
+            });
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                if (done || hedged || live.size() != 1 || attempts >= MAX_ATTEMPTS) return;
+                if (!breaker.allow()) return;
+                hedged = true;
+                Log.d(TAG, endpoint + ": slow, sending hedged request");
+                launch(original.clone());
+            }
+        }
+
+        private void onAttemptResponse(Call<T> c, Response<T> response, long elapsedMs) {
+            boolean retryable = isRetryable(response.code());
+            if (!retryable) latencies.record(endpoint, elapsedMs);
+            if (retryable) breaker.onFailure(); else breaker.onSuccess();
+
+            synchronized (this) {
+                if (done || !live.remove(c)) return;
+                if (retryable && idempotent && attempts < MAX_ATTEMPTS) {
+                    if (response.errorBody() != null) response.errorBody().close();
+                    if (live.isEmpty()) retryLater();
+                    return;
+                }
+                if (retryable && !live.isEmpty()) {
+                    // The hedge may still come back healthy
+                    if (response.errorBody() != null) response.errorBody().close();
+                    return;
+                }
+            }
+            win(response);
+        }
+
+        private void onAttemptFailure(Call<T> c, Throwable t) {
+            if (c.isCanceled()) {
+                // Lost a hedge race or the caller walked away: not the server's fault,
+                // but a canceled trial must give the breaker its trial back
+                boolean wasTrial;
+                synchronized (this) {
+                    live.remove(c);
+                    wasTrial = c == trial;
+                    if (wasTrial) trial = null;
+                }
+                if (wasTrial) breaker.onCanceled();
+                return;
+            }
+            breaker.onFailure();
+            synchronized (this) {
+                if (done || !live.remove(c)) return;
+                if (!live.isEmpty()) return; // the other attempt is still running
+                if (idempotent && attempts < MAX_ATTEMPTS && t instanceof IOException) {
+                    retryLater();
+                    return;
+                }
+            }
+            fail(t);
+        }
+
+        // Caller holds the lock
+        private void retryLater() {
+            if (timer != null) timer.cancel(false);
+            long delay = backoffMs(attempts - 1);
+            Log.d(TAG, endpoint + ": attempt " + attempts + " failed, retrying in " + delay + " ms");
+            timer = timers.schedule(() -> {
+                synchronized (this) {
+                    if (done) return;
+                    if (breaker.allow()) {
+                        launch(original.clone());
+                        return;
+                    }
+                }
+                fail(new CircuitOpenException());
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void win(Response<T> response) {
+            List<Call<T>> losers;
+            synchronized (this) {
+                if (done) return;
+                done = true;
+                if (timer != null) timer.cancel(false);
+                losers = new ArrayList<>(live);
+                live.clear();
+            }
+            for (Call<T> c : losers) c.cancel();
+            callback.onResponse(original, response);
+        }
+
+        private void fail(Throwable t) {
+            synchronized (this) {
+                if (done) return;
+                done = true;
+                if (timer != null) timer.cancel(false);
+            }
+            callback.onFailure(original, t);
+        }
+    }
+}
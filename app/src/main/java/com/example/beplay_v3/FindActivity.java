@@ -0,0 +1,203 @@
+package com.example.beplay_v3;
+
+import android.app.Activity;
+import android.content.Intent;
+import android.graphics.Color;
+import android.os.Build;
+import android.os.Bundle;
+import android.speech.RecognizerIntent;
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.view.KeyEvent;
+import android.view.inputmethod.EditorInfo;
+import android.widget.Button;
+import android.widget.EditText;
+
+import androidx.activity.result.ActivityResultLauncher;
+import androidx.activity.result.contract.ActivityResultContracts;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * "find": jumps straight to an event, room, region or accessibility by name instead of
+ * drilling down level by level. Listens for the name right away (typing works too) and
+ * searches the {@link CatalogIndex} of everything the app has fetched or cached.
+ */
+public class FindActivity extends BaseTtsActivity {
+
+    private static final int MAX_RESULTS = 40;
+    private static final String FIND_PREFIX = "find ";
+
+    /** Opens the search from any screen. */
+    static void open(Activity from) {
+        from.startActivity(new Intent(from, FindActivity.class));
+    }
+
+    private RecyclerView containerButtons;
+    private ButtonList buttons;
+    private EditText queryInput;
+    private CatalogRepository catalog;
+    private boolean announcePending; // speak the count once the next results are shown
+
+    private final ActivityResultLauncher<Intent> recognizer = registerForActivityResult(
+            new ActivityResultContracts.StartActivityForResult(), result -> {
+                Intent data = result.getData();
+                List<String> heard = (result.getResultCode() == RESULT_OK && data != null)
+                        ? data.getStringArrayListExtra(RecognizerIntent.EXTRA_RESULTS) : null;
+                onHeard(heard);
+            });
+
+    // ===== Voice command fields (Vuzix) =====
+    private VoiceList voiceList;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_find);
+
+        containerButtons = findViewById(R.id.containerButtons);
+        queryInput = findViewById(R.id.queryInput);
+        catalog = CatalogRepository.get(this);
+        buttons = new ButtonList(containerButtons, Color.parseColor("#80000000"), // darker highlight
+                v -> speakViewLabel(v, "Selected item"), this::prewarmSpeech);
+        buttons.setFocusFirst(false); // typing keeps the focus in the query field
+
+        initTts("Say the name to find");
+
+        // Back button
+        Button backButton = findViewById(R.id.backButton);
+        if (backButton != null) {
+            backButton.setOnClickListener(v -> onBackPressed());
+            backButton.setFocusable(true);
+            backButton.setFocusableInTouchMode(true);
+            backButton.setOnFocusChangeListener((v, hasFocus) -> {
+                if (!hasFocus) return;
+                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+                    triggerRipple(v);
+                }
+                speakViewLabel(v, "Back");
+            });
+        }
+
+        // Voice init
+        voiceList = new VoiceList(this, buttons, this::speakText);
+
+        // Results follow the text as it is typed; lookups are well under a millisecond
+        queryInput.addTextChangedListener(new TextWatcher() {
+            @Override public void beforeTextChanged(CharSequence s, int start, int count, int after) { }
+            @Override public void onTextChanged(CharSequence s, int start, int before, int count) { }
+            @Override public void afterTextChanged(Editable s) { renderResults(s.toString()); }
+        });
+        queryInput.setOnEditorActionListener((v, actionId, event) -> {
+            if (actionId != EditorInfo.IME_ACTION_SEARCH) return false;
+            announcePending = true;
+            renderResults(v.getText().toString());
+            return true;
+        });
+    }
+
+    @Override
+    protected void onTtsIntroFinished() {
+        if (queryInput.getText().length() == 0) listen();
+    }
+
+    // Saying "find" again on this screen starts a new search
+    @Override
+    public boolean onSearchRequested() {
+        listen();
+        return true;
+    }
+
+    private void listen() {
+        Intent i = new Intent(RecognizerIntent.ACTION_RECOGNIZE_SPEECH)
+                .putExtra(RecognizerIntent.EXTRA_LANGUAGE_MODEL, RecognizerIntent.LANGUAGE_MODEL_FREE_FORM)
+                .putExtra(RecognizerIntent.EXTRA_PROMPT, "Find")
+                .putExtra(RecognizerIntent.EXTRA_MAX_RESULTS, 5);
+        if (i.resolveActivity(getPackageManager()) == null) {
+            // No recognizer on this device: fall back to the keyboard
+            queryInput.requestFocus();
+            return;
+        }
+        recognizer.launch(i);
+    }
+
+    // Takes the first alternative the catalog knows, so a near-miss transcription still lands
+    private void onHeard(List<String> heard) {
+        if (heard == null || heard.isEmpty()) {
+            speakAlert("Nothing heard. Say find to try again.");
+            return;
+        }
+        String query = stripFind(heard.get(0));
+        for (String h : heard) {
+            String q = stripFind(h);
+            if (!catalog.find(q, 1).isEmpty()) {
+                query = q;
+                break;
+            }
+        }
+        announcePending = true;
+        queryInput.setText(query); // renders through the TextWatcher
+        queryInput.setSelection(query.length());
+    }
+
+    private static String stripFind(String heard) {
+        String h = heard != null ? heard.trim() : "";
+        return h.toLowerCase(Locale.US).startsWith(FIND_PREFIX) ? h.substring(FIND_PREFIX.length()).trim() : h;
+    }
+
+    // Runs once the results for query are on screen
+    private void announceResults(String query) {
+        if (!announcePending) return;
+        announcePending = false;
+        if (query.trim().isEmpty()) return;
+
+        int count = buttons.size();
+        if (count == 0 || !buttons.rows().get(0).enabled) {
+            speakAlert("Nothing found for " + query + ". Say find to try again.");
+            return;
+        }
+        speakText(count == 1 ? "One result" : count + " results");
+        buttons.focus(0); // its label is spoken after the count
+    }
+
+    private void renderResults(String query) {
+        List<ButtonList.Row> rows = new ArrayList<>();
+        if (!query.trim().isEmpty()) {
+            for (CatalogIndex.Entry e : catalog.find(query, MAX_RESULTS)) {
+                Intent target = intentFor(e);
+                if (target == null) continue;
+
+                rows.add(new ButtonList.Row(e.path + "/" + e.nodeId, e.label + ", " + e.kind.segment, () -> {
+                    speakText("Opening " + e.label);
+                    startActivity(target);
+                }, null));
+            }
+            if (rows.isEmpty()) rows.add(ButtonList.Row.message("(Nothing found)"));
+        }
+        buttons.submit(rows, () -> announceResults(query));
+    }
+
+    // Same level as tapping the item in its own list: the ids in its path, down to its own
+    private Intent intentFor(CatalogIndex.Entry e) {
+        CatalogPath path = CatalogPath.from(e::id);
+        return CatalogDestination.forPath(path) != null ? CatalogHostActivity.intent(this, path) : null;
+    }
+
+    // ===== Handle the key events coming from Vuzix speech =====
+    @Override
+    public boolean onKeyDown(int keyCode, KeyEvent event) {
+        // Static: "back"
+        if (keyCode == KeyEvent.KEYCODE_BACK) {
+            onBackPressed();
+            return true;
+        }
+
+        // Dynamic: the visible page of results, "item N", next/previous page
+        if (voiceList.onKeyDown(keyCode)) return true;
+
+        return super.onKeyDown(keyCode, event);
+    }
+}
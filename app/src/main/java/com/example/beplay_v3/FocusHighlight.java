@@ -0,0 +1,81 @@
+package com.example.beplay_v3;
+
+import android.animation.ValueAnimator;
+import android.graphics.Canvas;
+import android.graphics.drawable.Drawable;
+import android.view.View;
+import android.view.animation.DecelerateInterpolator;
+
+import androidx.annotation.NonNull;
+import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * The focus highlight of a {@link ButtonList}: one frame behind the focused row
+ * (highlight_bg, tinted) and one sweep band across it when focus arrives (highlight_sweep).
+ *
+ * Drawn by the list itself, so rows stay flat (no ripple, no elevation shadow) and only
+ * one row is ever highlighted. Follows the row while it scrolls, since it is placed from
+ * the row's current bounds on every frame. Main thread only.
+ */
+final class FocusHighlight extends RecyclerView.ItemDecoration {
+
+    private static final long SWEEP_MS = 320;
+
+    private final RecyclerView view;
+    private final Drawable frame;
+    private final Drawable sweep;
+    private final int outset;
+    private final int sweepWidth;
+    private final ValueAnimator sweepAnim = ValueAnimator.ofFloat(0f, 1f);
+    private float sweepProgress = 1f; // 1 = done, nothing drawn
+
+    FocusHighlight(RecyclerView view, int color) {
+        this.view = view;
+        frame = ContextCompat.getDrawable(view.getContext(), R.drawable.highlight_bg).mutate();
+        frame.setTint(color);
+        sweep = ContextCompat.getDrawable(view.getContext(), R.drawable.highlight_sweep);
+        outset = Math.round(3 * view.getResources().getDisplayMetrics().density);
+        sweepWidth = sweep.getIntrinsicWidth();
+
+        sweepAnim.setDuration(SWEEP_MS);
+        sweepAnim.setInterpolator(new DecelerateInterpolator());
+        sweepAnim.addUpdateListener(a -> {
+            sweepProgress = (float) a.getAnimatedValue();
+            view.invalidate(); // redraws rows from their display lists, no rebind
+        });
+    }
+
+    /** A row gained or lost focus: move the frame, and sweep the newly focused row. */
+    void onFocusChange(boolean hasFocus) {
+        if (hasFocus) {
+            sweepAnim.cancel();
+            sweepAnim.start();
+        }
+        view.invalidate();
+    }
+
+    @Override
+    public void onDraw(@NonNull Canvas c, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        View row = parent.getFocusedChild();
+        if (row == null) return;
+        int top = Math.round(row.getY());
+        frame.setBounds(row.getLeft() - outset, top - outset, row.getRight() + outset, top + row.getHeight() + outset);
+        frame.draw(c);
+    }
+
+    @Override
+    public void onDrawOver(@NonNull Canvas c, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        View row = parent.getFocusedChild();
+        if (row == null || sweepProgress >= 1f) return;
+        int top = Math.round(row.getY());
+        int travel = row.getWidth() + sweepWidth;
+        int left = row.getLeft() - sweepWidth + Math.round(travel * sweepProgress);
+
+        int save = c.save();
+        c.clipRect(row.getLeft(), top, row.getRight(), top + row.getHeight());
+        sweep.setBounds(left, top, left + sweepWidth, top + row.getHeight());
+        sweep.draw(c);
+        c.restoreToCount(save);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.beplay_v3;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Uses the DPAD dwell time on a list button: once a button has held focus for
+ * the dwell delay, the level it would open is prefetched through
+ * {@link CatalogRepository#prefetch}. Moving focus on cancels it.
+ *
+ * {@link ButtonList} binds each row to its child request and forwards focus changes
+ * from its focus listener (which also drives the TTS).
+ */
+public final class FocusPrefetcher implements DefaultLifecycleObserver {
+
+    // Long enough to skip buttons the user is scrolling past, short next to the TTS label
+    public static final long DEFAULT_DWELL_MS = 350;
+
+    private final long dwellMs;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Map<View, Supplier<CatalogRepository.Prefetch>> bindings = new WeakHashMap<>();
+
+    private View focused;
+    private Runnable pendingDwell;
+    private CatalogRepository.Prefetch active;
+
+    public FocusPrefetcher(LifecycleOwner owner) {
+        this(owner, DEFAULT_DWELL_MS);
+    }
+
+    public FocusPrefetcher(LifecycleOwner owner, long dwellMs) {
+        this.dwellMs = dwellMs;
+        owner.getLifecycle().addObserver(this);
+    }
+
+    /** Registers what to prefetch while {@code v} has focus; null clears it (e.g. for a recycled row). */
+    public void bind(View v, Supplier<CatalogRepository.Prefetch> prefetch) {
+        if (prefetch != null) bindings.put(v, prefetch); else bindings.remove(v);
+    }
+
+    /** Forward from the button's OnFocusChangeListener. */
+    public void onFocusChange(View v, boolean hasFocus) {
+        if (!hasFocus) {
+            if (v == focused) cancel();
+            return;
+        }
+        cancel();
+        Supplier<CatalogRepository.Prefetch> prefetch = bindings.get(v);
+        if (prefetch == null) return;
+
+        focused = v;
+        pendingDwell = () -> {
+            pendingDwell = null;
+            active = prefetch.get();
+        };
+        handler.postDelayed(pendingDwell, dwellMs);
+    }
+
+    /** Focus moved on: drop the timer and whatever it started. */
+    public void cancel() {
+        if (pendingDwell != null) {
+            handler.removeCallbacks(pendingDwell);
+            pendingDwell = null;
+        }
+        if (active != null) {
+            active.cancel();
+            active = null;
+        }
+        focused = null;
+    }
+
+    @Override
+    public void onPause(@NonNull LifecycleOwner owner) {
+        // Usually the user just clicked the focused button
+        settle();
+    }
+
+    /**
+     * The focused button was picked: stop the timer, but let an in-flight
+     * prefetch land so the next level finds it in memory.
+     */
+    public void settle() {
+        if (pendingDwell != null) {
+            handler.removeCallbacks(pendingDwell);
+            pendingDwell = null;
+        }
+        if (active != null) {
+            active.cancelIfQueued();
+            active = null;
+        }
+        focused = null;
+    }
+
+    @Override
+    public void onDestroy(@NonNull LifecycleOwner owner) {
+        cancel();
+        bindings.clear();
+        owner.getLifecycle().removeObserver(this);
+    }
+}
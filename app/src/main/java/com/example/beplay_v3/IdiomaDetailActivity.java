@@ -6,7 +6,6 @@ import android.os.Bundle;
 import android.widget.TextView;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 
@@ -28,13 +27,15 @@ public class IdiomaDetailActivity extends AppCompatActivity {
     public static final String EXTRA_IDIOMA_ID    = "extra_idioma_id";
 
     private TextView tv;
-    private final OkHttpClient client = new OkHttpClient();
-    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private OkHttpClient client;
+    private Gson gson;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_idioma_detail);
+        client = BePlayApi.get(this).client(); // shared pool/dispatcher
+        gson = BePlayApi.get(this).prettyGson(); // shared adapters, no per-screen reflection
 
         tv = findViewById(R.id.tvIdiomaDetail);
 
@@ -64,8 +65,11 @@ public class IdiomaDetailActivity extends AppCompatActivity {
 
     private void fetch(String url) {
         Request req = new Request.Builder().url(url).get().build();
-        client.newCall(req).enqueue(new Callback() {
+        Call call = client.newCall(req);
+        CancelOnDestroy.bind(this, call::cancel);
+        call.enqueue(new Callback() {
             @Override public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) return; // screen destroyed
                 runOnUiThread(() -> tv.setText("Request failed:\n" + e.getMessage()));
             }
 
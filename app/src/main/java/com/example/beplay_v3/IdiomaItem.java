@@ -3,10 +3,15 @@ package com.example.beplay_v3;
 import com.google.gson.annotations.SerializedName;
 
 
-class IdiomaItem {
+class IdiomaItem implements CatalogNode {
     Integer id;
     String nome;
     String codigo;
     String status;
     String codPais;
+
+    // ===== CatalogNode =====
+    @Override public String nodeId() { return id == null ? null : String.valueOf(id); }
+    @Override public String nodeLabel() { return nome; }
+    @Override public String nodeUpdatedAt() { return null; }
 }
@@ -0,0 +1,112 @@
+package com.example.beplay_v3;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Coalesces identical in-flight GETs: the first caller's Retrofit call goes to the
+ * network, later callers for the same URL just attach to it and share its response.
+ * A caller that leaves (screen destroyed, prefetch canceled) only detaches; the
+ * request itself is canceled once nobody is waiting for it.
+ * Each shared request runs under the {@link FetchPolicy} (retries, hedging, breaker).
+ */
+final class InFlightCalls {
+
+    interface Listener<T> {
+        void onResponse(Response<T> response);
+        void onFailure(Throwable t);
+    }
+
+    private final Map<String, Flight<?>> flights = new HashMap<>();
+    private final FetchPolicy policy;
+
+    InFlightCalls(FetchPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Runs {@code call} (or joins the identical one already running) and returns a
+     * handle that detaches {@code listener}. Callbacks arrive on OkHttp's threads.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Runnable join(Call<T> call, Listener<T> listener) {
+        if (!"GET".equals(call.request().method())) {
+            Flight<T> solo = new Flight<>(null, call);
+            solo.listeners.add(listener);
+            solo.start();
+            return () -> leave(solo, listener);
+        }
+
+        String key = call.request().url().toString();
+        Flight<T> flight;
+        boolean leader = false;
+        synchronized (this) {
+            flight = (Flight<T>) flights.get(key);
+            if (flight == null) {
+                flight = new Flight<>(key, call);
+                flights.put(key, flight);
+                leader = true;
+            }
+            flight.listeners.add(listener);
+        }
+        if (leader) flight.start();
+
+        Flight<T> joined = flight;
+        return () -> leave(joined, listener);
+    }
+
+    private <T> void leave(Flight<T> flight, Listener<T> listener) {
+        boolean abandon;
+        synchronized (this) {
+            if (!flight.listeners.remove(listener)) return;
+            abandon = flight.listeners.isEmpty();
+            if (abandon && flight.key != null) flights.remove(flight.key);
+        }
+        if (abandon) flight.abort();
+    }
+
+    private <T> List<Listener<T>> land(Flight<T> flight) {
+        synchronized (this) {
+            if (flight.key != null && flights.get(flight.key) == flight) flights.remove(flight.key);
+            List<Listener<T>> out = new ArrayList<>(flight.listeners);
+            flight.listeners.clear();
+            return out;
+        }
+    }
+
+    private final class Flight<T> {
+        final String key; // null = not shareable (non-GET)
+        final Call<T> call;
+        final List<Listener<T>> listeners = new ArrayList<>();
+        private volatile Runnable cancel;
+
+        Flight(String key, Call<T> call) {
+            this.key = key;
+            this.call = call;
+        }
+
+        // Retries/hedging happen inside the policy; listeners only see the final outcome
+        void start() {
+            cancel = policy.enqueue(call, new Callback<T>() {
+                @Override public void onResponse(Call<T> c, Response<T> response) {
+                    for (Listener<T> l : land(Flight.this)) l.onResponse(response);
+                }
+
+                @Override public void onFailure(Call<T> c, Throwable t) {
+                    for (Listener<T> l : land(Flight.this)) l.onFailure(t);
+                }
+            });
+        }
+
+        void abort() {
+            Runnable c = cancel;
+            if (c != null) c.run(); else call.cancel();
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.example.beplay_v3;
 
 import com.google.gson.annotations.SerializedName;
 
-public class Language {
+public class Language implements CatalogNode {
     @SerializedName("id")       public String id;      // idioma id from first endpoint
     @SerializedName("nome")     public String nome;    // label (Portuguese)
     @SerializedName("codigo")   public String codigo;
@@ -10,4 +10,9 @@ public class Language {
     @SerializedName("codPais")  public String codPais; // country code like "br"
     @SerializedName("created_at") public String createdAt;
     @SerializedName("updated_at") public String updatedAt;
+
+    // ===== CatalogNode =====
+    @Override public String nodeId() { return id; }
+    @Override public String nodeLabel() { return nome; }
+    @Override public String nodeUpdatedAt() { return updatedAt; }
 }
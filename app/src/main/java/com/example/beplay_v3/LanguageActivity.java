@@ -7,7 +7,6 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 
@@ -26,8 +25,8 @@ public class LanguageActivity extends AppCompatActivity {
     public static final String EXTRA_EVENT_ID    = "extra_event_id";
     public static final String EXTRA_ROOM_ID     = "extra_room_id";
 
-    private final OkHttpClient client = new OkHttpClient();
-    private final Gson gsonPretty = new GsonBuilder().setPrettyPrinting().create();
+    private OkHttpClient client;
+    private Gson gsonPretty;
 
     private TextView tvResult;
 
@@ -37,6 +36,8 @@ public class LanguageActivity extends AppCompatActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_language);
+        client = BePlayApi.get(this).client(); // shared pool/dispatcher
+        gsonPretty = BePlayApi.get(this).prettyGson(); // shared adapters, no per-screen reflection
 
         tvResult = findViewById(R.id.tvResult);
         tvResult.setText("Loading...");
@@ -64,8 +65,11 @@ public class LanguageActivity extends AppCompatActivity {
 
     private void fetchAndShow(String url) {
         Request req = new Request.Builder().url(url).get().build();
-        client.newCall(req).enqueue(new Callback() {
+        Call call = client.newCall(req);
+        CancelOnDestroy.bind(this, call::cancel);
+        call.enqueue(new Callback() {
             @Override public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) return; // screen destroyed
                 runOnUiThread(() -> {
                     tvResult.setText("Request failed: " + e.getMessage());
                     Toast.makeText(LanguageActivity.this, "Network error", Toast.LENGTH_SHORT).show();
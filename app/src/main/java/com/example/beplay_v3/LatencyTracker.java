@@ -0,0 +1,46 @@
+package com.example.beplay_v3;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rolling request latencies per endpoint (the last {@link #WINDOW} samples each).
+ * Feeds the hedging threshold in {@link FetchPolicy}. Thread-safe.
+ */
+final class LatencyTracker {
+
+    static final int WINDOW = 64;
+
+    private final Map<String, long[]> samples = new HashMap<>();
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    synchronized void record(String endpoint, long millis) {
+        long[] ring = samples.get(endpoint);
+        if (ring == null) {
+            ring = new long[WINDOW];
+            samples.put(endpoint, ring);
+        }
+        int n = counts.getOrDefault(endpoint, 0);
+        ring[n % WINDOW] = millis;
+        counts.put(endpoint, n + 1);
+    }
+
+    /** Number of samples currently in the window for {@code endpoint}. */
+    synchronized int size(String endpoint) {
+        return Math.min(counts.getOrDefault(endpoint, 0), WINDOW);
+    }
+
+    /**
+     * Nearest-rank percentile ({@code p} in 0..100) of the current window,
+     * or -1 when the endpoint has fewer than {@code minSamples} samples.
+     */
+    synchronized long percentile(String endpoint, double p, int minSamples) {
+        int size = size(endpoint);
+        if (size == 0 || size < minSamples) return -1;
+        long[] sorted = Arrays.copyOf(samples.get(endpoint), size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(p / 100.0 * size);
+        return sorted[Math.max(0, Math.min(size - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.beplay_v3;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** What to delete and insert to turn one phrase → keycode set into another. */
+final class PhraseDelta {
+
+    final List<String> removed;
+    final Map<String, Integer> added;
+
+    private PhraseDelta(List<String> removed, Map<String, Integer> added) {
+        this.removed = Collections.unmodifiableList(removed);
+        this.added = Collections.unmodifiableMap(added);
+    }
+
+    static PhraseDelta between(Map<String, Integer> current, Map<String, Integer> desired) {
+        List<String> removed = new ArrayList<>();
+        Map<String, Integer> added = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> e : current.entrySet()) {
+            Integer want = desired.get(e.getKey());
+            if (want == null || !want.equals(e.getValue())) removed.add(e.getKey()); // gone or re-keyed
+        }
+        for (Map.Entry<String, Integer> e : desired.entrySet()) {
+            if (!e.getValue().equals(current.get(e.getKey()))) added.put(e.getKey(), e.getValue());
+        }
+        return new PhraseDelta(removed, added);
+    }
+
+    boolean isEmpty() {
+        return removed.isEmpty() && added.isEmpty();
+    }
+}
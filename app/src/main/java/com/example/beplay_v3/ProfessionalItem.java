@@ -0,0 +1,8 @@
+package com.example.beplay_v3;
+
+import com.google.gson.annotations.SerializedName;
+
+public class ProfessionalItem {
+    @SerializedName("id")   public Integer id;
+    @SerializedName("name") public String name;
+}
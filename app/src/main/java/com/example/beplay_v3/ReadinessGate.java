@@ -0,0 +1,96 @@
+package com.example.beplay_v3;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opens once every expected signal has arrived and a minimum display time has passed,
+ * or when the hard maximum is hit, whichever comes first. Logs a timeline of each
+ * signal (ms since the gate was created) so cold-start regressions are visible in logcat:
+ *
+ *   launch timeline: process→gate 412 ms | session 1 | connection 380 | tts 455 | languages 640 | open 640 (ready)
+ *
+ * {@link #expect} / {@link #start} / {@link #cancel} on the main thread; the returned
+ * signal runnables may be run from any thread.
+ */
+final class ReadinessGate {
+
+    private static final String TAG = "LaunchTimeline";
+
+    private final Handler main = new Handler(Looper.getMainLooper());
+    private final long minMs;
+    private final long maxMs;
+    private final Runnable onOpen;
+    private final long createdAt = SystemClock.elapsedRealtime();
+
+    // name -> ms since createdAt, or null while still pending (insertion order = log order)
+    private final Map<String, Long> signals = new LinkedHashMap<>();
+    private boolean minElapsed = false;
+    private boolean open = false;
+
+    private final Runnable minTimer = () -> {
+        minElapsed = true;
+        maybeOpen();
+    };
+    private final Runnable maxTimer = () -> openNow("max " + ReadinessGate.this.maxMs + " ms");
+
+    ReadinessGate(long minMs, long maxMs, Runnable onOpen) {
+        this.minMs = minMs;
+        this.maxMs = maxMs;
+        this.onOpen = onOpen;
+    }
+
+    /** Registers a readiness signal; run the returned handle (once, any thread) when it is ready. */
+    Runnable expect(String name) {
+        signals.put(name, null);
+        return () -> main.post(() -> {
+            if (open || !signals.containsKey(name) || signals.get(name) != null) return;
+            signals.put(name, SystemClock.elapsedRealtime() - createdAt);
+            maybeOpen();
+        });
+    }
+
+    void start() {
+        main.postDelayed(minTimer, minMs);
+        main.postDelayed(maxTimer, maxMs);
+    }
+
+    void cancel() {
+        open = true;
+        main.removeCallbacks(minTimer);
+        main.removeCallbacks(maxTimer);
+    }
+
+    private void maybeOpen() {
+        if (open || !minElapsed) return;
+        for (Long t : signals.values()) {
+            if (t == null) return;
+        }
+        openNow("ready");
+    }
+
+    private void openNow(String reason) {
+        if (open) return;
+        cancel();
+        logTimeline(reason);
+        onOpen.run();
+    }
+
+    private void logTimeline(String reason) {
+        StringBuilder sb = new StringBuilder("launch timeline: process→gate ")
+                .append(createdAt - Process.getStartElapsedRealtime()).append(" ms");
+        for (Map.Entry<String, Long> e : signals.entrySet()) {
+            sb.append(" | ").append(e.getKey()).append(' ')
+              .append(e.getValue() != null ? String.valueOf(e.getValue()) : "pending");
+        }
+        sb.append(" | open ").append(SystemClock.elapsedRealtime() - createdAt)
+          .append(" (").append(reason).append(')');
+        Log.i(TAG, sb.toString());
+    }
+}
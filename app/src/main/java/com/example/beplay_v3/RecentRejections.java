@@ -0,0 +1,54 @@
+package com.example.beplay_v3;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Scanned payloads that recently failed validation, with the reason, so a bad code held
+ * in front of the camera is answered from memory instead of re-querying on every frame.
+ * Entries expire after their own TTL; at most {@link #MAX_ENTRIES} are kept. Thread-safe.
+ */
+final class RecentRejections {
+
+    static final int MAX_ENTRIES = 32;
+
+    private final LongSupplier clock;
+
+    // Oldest first, so the eldest entry goes when full
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>() {
+        @Override protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    RecentRejections(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    synchronized void put(String payload, String reason, long ttlMs) {
+        entries.remove(payload); // re-insert as newest
+        entries.put(payload, new Entry(reason, clock.getAsLong() + ttlMs));
+    }
+
+    /** Why {@code payload} was rejected, or null if it was not (or that has expired). */
+    synchronized String get(String payload) {
+        Entry e = entries.get(payload);
+        if (e == null) return null;
+        if (clock.getAsLong() >= e.expiresAt) {
+            entries.remove(payload);
+            return null;
+        }
+        return e.reason;
+    }
+
+    private static final class Entry {
+        final String reason;
+        final long expiresAt;
+
+        Entry(String reason, long expiresAt) {
+            this.reason = reason;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -3,9 +3,8 @@ package com.example.beplay_v3;
 
 import com.google.gson.annotations.SerializedName;
 
+// The payload also carries full "event", "room" and "category" objects;
+// ApiJson skips them while streaming, only the idioma is kept.
 class RegionDetailEnvelope {
-    @SerializedName("event")    Object event;
-    @SerializedName("room")     Object room;
-    @SerializedName("category") Object category;
     @SerializedName("idioma")   IdiomaItem idioma; // <-- single object with id, nome, ...
 }
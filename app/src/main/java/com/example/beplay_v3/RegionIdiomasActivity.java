@@ -9,7 +9,6 @@ import android.widget.Button;
 import android.widget.LinearLayout;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 import java.io.IOException;
 
@@ -18,6 +17,7 @@ import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 public class RegionIdiomasActivity extends AppCompatActivity {
 
@@ -28,8 +28,8 @@ public class RegionIdiomasActivity extends AppCompatActivity {
     public static final String EXTRA_REGION_ID    = "extra_region_id";
 
     private LinearLayout containerButtons;
-    private final OkHttpClient client = new OkHttpClient();
-    private final Gson gson = new GsonBuilder().create();
+    private OkHttpClient client;
+    private Gson gson;
 
     private String codPais, categoryId, eventId, roomId, regionId;
 
@@ -38,6 +38,8 @@ public class RegionIdiomasActivity extends AppCompatActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_region_idiomas);
+        client = BePlayApi.get(this).client(); // shared pool/dispatcher
+        gson = BePlayApi.get(this).gson(); // shared adapters, no per-screen reflection
 
         containerButtons = findViewById(R.id.containerButtons);
 
@@ -64,8 +66,11 @@ public class RegionIdiomasActivity extends AppCompatActivity {
 
     private void fetchAndRender(String url) {
         Request req = new Request.Builder().url(url).get().build();
-        client.newCall(req).enqueue(new Callback() {
+        Call call = client.newCall(req);
+        CancelOnDestroy.bind(this, call::cancel);
+        call.enqueue(new Callback() {
             @Override public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) return; // screen destroyed
                 runOnUiThread(() -> {
                     containerButtons.removeAllViews();
                     containerButtons.addView(disabled("Request failed: " + e.getMessage()));
@@ -73,8 +78,8 @@ public class RegionIdiomasActivity extends AppCompatActivity {
             }
 
             @Override public void onResponse(Call call, Response response) throws IOException {
-                String body = response.body() != null ? response.body().string() : "";
                 if (!response.isSuccessful()) {
+                    response.close();
                     runOnUiThread(() -> {
                         containerButtons.removeAllViews();
                         containerButtons.addView(disabled("HTTP " + response.code()));
@@ -82,9 +87,12 @@ public class RegionIdiomasActivity extends AppCompatActivity {
                     return;
                 }
 
+                // Stream-decode from the response source instead of buffering it into a String
                 IdiomaItem[] idiomas;
-                try { idiomas = gson.fromJson(body, IdiomaItem[].class); }
-                catch (Exception ex) { idiomas = new IdiomaItem[0]; }
+                try (ResponseBody rb = response.body()) {
+                    idiomas = (rb != null) ? gson.fromJson(rb.charStream(), IdiomaItem[].class) : null;
+                } catch (Exception ex) { idiomas = null; }
+                if (idiomas == null) idiomas = new IdiomaItem[0];
 
                 IdiomaItem[] finalIdiomas = idiomas;
                 runOnUiThread(() -> {
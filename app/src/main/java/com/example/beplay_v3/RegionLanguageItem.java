@@ -0,0 +1,17 @@
+package com.example.beplay_v3;
+
+import com.google.gson.annotations.SerializedName;
+
+public class RegionLanguageItem implements CatalogNode {
+    @SerializedName("id")           public Integer id;
+    @SerializedName("name")         public String name;
+    @SerializedName("code")         public String code;
+    @SerializedName("codLanguage")  public String codLanguage;
+    @SerializedName("created_at")   public String createdAt;
+    @SerializedName("updated_at")   public String updatedAt;
+
+    // ===== CatalogNode =====
+    @Override public String nodeId() { return id == null ? null : String.valueOf(id); }
+    @Override public String nodeLabel() { return name; }
+    @Override public String nodeUpdatedAt() { return updatedAt; }
+}
@@ -8,9 +8,6 @@ import android.widget.LinearLayout;
 import android.widget.ScrollView;
 import android.widget.TextView;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-
 import java.io.IOException;
 
 import okhttp3.Call;
@@ -29,8 +26,7 @@ public class RegionLanguagesActivity extends AppCompatActivity {
 
     private LinearLayout containerButtons;
     private TextView tvResponse;
-    private final OkHttpClient client = new OkHttpClient();
-    private final Gson gson = new GsonBuilder().create();
+    private OkHttpClient client;
 
     private String codPais, categoryId, eventId, roomId, regionId;
 
@@ -38,6 +34,7 @@ public class RegionLanguagesActivity extends AppCompatActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_region_languages);
+        client = BePlayApi.get(this).client(); // shared pool/dispatcher
 
         containerButtons = findViewById(R.id.containerButtons);
         tvResponse = findViewById(R.id.tvResponse);
@@ -55,62 +52,42 @@ public class RegionLanguagesActivity extends AppCompatActivity {
         }
 
         // Fetch languages for this region
-        String url = "https://console.beplay.io/api/idiomas/" + codPais
-                + "/categoria/" + categoryId
-                + "/event/" + eventId
-                + "/room/" + roomId
-                + "/region/" + regionId
-                + "/idiomas";
-
-        fetchLanguages(url);
+        fetchLanguages();
     }
 
-    private void fetchLanguages(String url) {
-        Request req = new Request.Builder().url(url).get().build();
-        client.newCall(req).enqueue(new Callback() {
+    // Same endpoint as the catalog's region languages level: goes through ApiCall so it shares the disk cache
+    // and joins an identical request that is already in flight
+    private void fetchLanguages() {
+        BePlayApi.get(this).service().regionLanguages(codPais, categoryId, eventId, roomId, regionId)
+                .bindTo(this)
+                .enqueue(new ApiCallback<RegionLanguagesEnvelope>() {
             @Override
-            public void onFailure(Call call, IOException e) {
-                runOnUiThread(() -> {
-                    containerButtons.removeAllViews();
-                    containerButtons.addView(disabled("Request failed: " + e.getMessage()));
-                });
+            public void onFailure(Throwable e) {
+                containerButtons.removeAllViews();
+                containerButtons.addView(disabled("Request failed: " + e.getMessage()));
             }
 
             @Override
-            public void onResponse(Call call, Response response) throws IOException {
-                String body = response.body() != null ? response.body().string() : "";
+            public void onResponse(retrofit2.Response<RegionLanguagesEnvelope> response, boolean fromCache) {
+                containerButtons.removeAllViews();
                 if (!response.isSuccessful()) {
-                    runOnUiThread(() -> {
-                        containerButtons.removeAllViews();
-                        containerButtons.addView(disabled("HTTP " + response.code()));
-                    });
+                    containerButtons.addView(disabled("HTTP " + response.code()));
                     return;
                 }
 
-                // Parse JSON
-                RegionLanguagesEnvelope env;
-                try {
-                    env = gson.fromJson(body, RegionLanguagesEnvelope.class);
-                } catch (Exception ex) {
-                    env = null;
+                RegionLanguagesEnvelope env = response.body();
+                RegionLanguageItem[] languages = (env != null && env.language != null) ? env.language : new RegionLanguageItem[0];
+                if (languages.length == 0) {
+                    containerButtons.addView(disabled("(No languages)"));
+                    return;
                 }
 
-                LanguageItem[] languages = (env != null && env.language != null) ? env.language : new LanguageItem[0];
-
-                runOnUiThread(() -> {
-                    containerButtons.removeAllViews();
-                    if (languages.length == 0) {
-                        containerButtons.addView(disabled("(No languages)"));
-                        return;
-                    }
-
-                    for (LanguageItem lang : languages) {
-                        String label = (lang != null && lang.name != null) ? lang.name : ("Language " + (lang != null ? lang.id : "?"));
-                        Button btn = button(label);
-                        btn.setOnClickListener(v -> fetchLanguageDetails(lang.id));
-                        containerButtons.addView(btn);
-                    }
-                });
+                for (RegionLanguageItem lang : languages) {
+                    String label = (lang != null && lang.name != null) ? lang.name : ("Language " + (lang != null ? lang.id : "?"));
+                    Button btn = button(label);
+                    btn.setOnClickListener(v -> fetchLanguageDetails(lang.id));
+                    containerButtons.addView(btn);
+                }
             }
         });
     }
@@ -126,9 +103,12 @@ public class RegionLanguagesActivity extends AppCompatActivity {
                 + "/idioma/" + languageId;
 
         Request req = new Request.Builder().url(url).get().build();
-        client.newCall(req).enqueue(new Callback() {
+        Call call = client.newCall(req);
+        CancelOnDestroy.bind(this, call::cancel);
+        call.enqueue(new Callback() {
             @Override
             public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) return; // screen destroyed
                 runOnUiThread(() -> tvResponse.setText("Request failed: " + e.getMessage()));
             }
 
@@ -167,18 +147,4 @@ public class RegionLanguagesActivity extends AppCompatActivity {
     private boolean isEmpty(String s) {
         return s == null || s.trim().isEmpty();
     }
-
-    // --- Models ---
-    static class RegionLanguagesEnvelope {
-        public LanguageItem[] language;
-    }
-
-    static class LanguageItem {
-        public Integer id;
-        public String name;
-        public String code;
-        public String codLanguage;
-        public String created_at;
-        public String updated_at;
-    }
 }
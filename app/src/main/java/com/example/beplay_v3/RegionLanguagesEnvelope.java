@@ -0,0 +1,7 @@
+package com.example.beplay_v3;
+
+import com.google.gson.annotations.SerializedName;
+
+public class RegionLanguagesEnvelope {
+    @SerializedName("language") public RegionLanguageItem[] language;
+}
@@ -2,11 +2,16 @@ package com.example.beplay_v3;
 
 import com.google.gson.annotations.SerializedName;
 
-public class RoomItem {
+public class RoomItem implements CatalogNode {
     @SerializedName("id")           public Integer id;
     @SerializedName("name")         public String name;
     @SerializedName("description")  public String description;
     @SerializedName("event_slug_link") public String eventSlugLink;
     @SerializedName("created_at")   public String createdAt;
     @SerializedName("updated_at")   public String updatedAt;
+
+    // ===== CatalogNode =====
+    @Override public String nodeId() { return id == null ? null : String.valueOf(id); }
+    @Override public String nodeLabel() { return name; }
+    @Override public String nodeUpdatedAt() { return updatedAt; }
 }
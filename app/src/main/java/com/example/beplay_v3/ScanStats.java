@@ -0,0 +1,114 @@
+package com.example.beplay_v3;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Rolling timings of the QR analyzer, per stage, over the last {@link #WINDOW} frames:
+ * a bucketed histogram plus percentiles, and the frame rate and frames the camera dropped
+ * (STRATEGY_KEEP_ONLY_LATEST skips frames silently; gaps between frame timestamps show them).
+ * Thread-safe.
+ */
+final class ScanStats {
+
+    enum Stage {
+        ACQUIRE, // sensor timestamp -> analyzer called
+        WINDOW,  // reticle window copied out of the frame
+        INPUT,   // InputImage built
+        DETECT   // detector called -> result delivered
+    }
+
+    static final int WINDOW = 128;
+
+    /** Upper bounds (ms, exclusive) of the histogram buckets; one more bucket holds the rest. */
+    static final long[] BUCKETS_MS = {1, 2, 4, 8, 16, 32, 64, 128, 256};
+
+    private final long[][] samples = new long[Stage.values().length][WINDOW];
+    private final int[] counts = new int[Stage.values().length];
+    private final int[][] histograms = new int[Stage.values().length][BUCKETS_MS.length + 1];
+
+    private final long[] frameTimes = new long[WINDOW]; // ns, ring
+    private int frames;
+    private long lastFrameNs, framePeriodNs = Long.MAX_VALUE;
+    private long dropped;
+
+    synchronized void record(Stage stage, long millis) {
+        int s = stage.ordinal();
+        int slot = counts[s] % WINDOW;
+        if (counts[s] >= WINDOW) histograms[s][bucket(samples[s][slot])]--; // leaves the window
+        samples[s][slot] = millis;
+        histograms[s][bucket(millis)]++;
+        counts[s]++;
+    }
+
+    /**
+     * An analyzed frame with its sensor timestamp. The camera's frame period is taken as the
+     * shortest gap seen; a gap of n periods means n - 1 frames were dropped before this one.
+     */
+    synchronized void onFrame(long timestampNs) {
+        if (frames > 0) {
+            long gap = timestampNs - lastFrameNs;
+            if (gap > 0) {
+                framePeriodNs = Math.min(framePeriodNs, gap);
+                dropped += Math.max(0, Math.round(gap / (double) framePeriodNs) - 1);
+            }
+        }
+        frameTimes[frames % WINDOW] = timestampNs;
+        lastFrameNs = timestampNs;
+        frames++;
+    }
+
+    /** Per-bucket sample counts of {@code stage} in the current window (see {@link #BUCKETS_MS}). */
+    synchronized int[] histogram(Stage stage) {
+        return histograms[stage.ordinal()].clone();
+    }
+
+    /** Nearest-rank percentile ({@code p} in 0..100) of the current window, or -1 with no samples. */
+    synchronized long percentile(Stage stage, double p) {
+        int s = stage.ordinal();
+        int size = Math.min(counts[s], WINDOW);
+        if (size == 0) return -1;
+        long[] sorted = Arrays.copyOf(samples[s], size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(p / 100.0 * size);
+        return sorted[Math.max(0, Math.min(size - 1, rank - 1))];
+    }
+
+    /** Frames analyzed per second over the last {@link #WINDOW} frames (0 until there are two). */
+    synchronized float fps() {
+        int size = Math.min(frames, WINDOW);
+        if (size < 2) return 0f;
+        long newest = frameTimes[(frames - 1) % WINDOW];
+        long oldest = frameTimes[(frames - size) % WINDOW];
+        return newest > oldest ? (size - 1) * 1e9f / (newest - oldest) : 0f;
+    }
+
+    synchronized long analyzed() {
+        return frames;
+    }
+
+    synchronized long dropped() {
+        return dropped;
+    }
+
+    /** One log line: rate, drops, then p50/p95 and the histogram of each stage with samples. */
+    synchronized String summary() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.US,
+                "%.1f fps, %d analyzed, %d dropped", fps(), frames, dropped));
+        for (Stage stage : Stage.values()) {
+            if (counts[stage.ordinal()] == 0) continue;
+            sb.append("; ").append(stage.name().toLowerCase(Locale.US))
+                    .append(" p50 ").append(percentile(stage, 50))
+                    .append(" p95 ").append(percentile(stage, 95))
+                    .append(" ms ").append(Arrays.toString(histograms[stage.ordinal()]));
+        }
+        return sb.toString();
+    }
+
+    private static int bucket(long millis) {
+        for (int i = 0; i < BUCKETS_MS.length; i++) {
+            if (millis < BUCKETS_MS[i]) return i;
+        }
+        return BUCKETS_MS.length;
+    }
+}
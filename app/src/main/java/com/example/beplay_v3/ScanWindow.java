@@ -0,0 +1,94 @@
+package com.example.beplay_v3;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The part of each camera frame the QR scanner decodes: a centered square around the
+ * on-screen reticle, copied out of the frame's luma plane as an NV21 image (QR decoding
+ * only needs luma; chroma is flat grey).
+ *
+ * The copy is also where resolution drops: after a run of frames with nothing detected,
+ * only every 2nd (then 3rd) pixel and row is kept, with a full-resolution frame every
+ * {@link #PROBE_EVERY} frames so small codes are still found. Any detection goes back to
+ * full resolution. The returned buffer is reused: decode it before asking for the next one.
+ */
+final class ScanWindow {
+
+    static final float MARGIN = 1.25f;       // window side relative to the reticle, for codes not quite inside it
+    static final int IDLE_PER_STEP = 10;     // empty frames before dropping one resolution step
+    static final int MAX_STEP = 3;
+    static final int PROBE_EVERY = 6;        // while dropped, every Nth frame is full resolution
+
+    private byte[] nv21 = new byte[0];
+    private int width, height;
+    private int idle;
+
+    /**
+     * Side, in frame pixels, of the window for a reticle {@code reticlePx} wide centered on a
+     * {@code viewW x viewH} preview that fills its view (center-crop) with a frame rotated by
+     * {@code rotation} degrees. The whole short side of the frame if the view is not laid out yet.
+     */
+    static int side(int frameW, int frameH, int rotation, int viewW, int viewH, int reticlePx) {
+        int max = Math.min(frameW, frameH) & ~1;
+        if (viewW <= 0 || viewH <= 0 || reticlePx <= 0) return max;
+        boolean turned = rotation == 90 || rotation == 270;
+        int shownW = turned ? frameH : frameW;
+        int shownH = turned ? frameW : frameH;
+        float scale = Math.max(viewW / (float) shownW, viewH / (float) shownH); // view px per frame px
+        int side = Math.round(reticlePx * MARGIN / scale);
+        return Math.max(2, Math.min(max, side & ~1));
+    }
+
+    /** Sampling step for the next frame: 1 = every pixel, 2 = every other pixel and row... */
+    synchronized int step() {
+        int dropped = Math.min(MAX_STEP - 1, idle / IDLE_PER_STEP);
+        if (dropped == 0 || idle % PROBE_EVERY == 0) return 1;
+        return 1 + dropped;
+    }
+
+    /** Result of decoding the last window: anything detected brings back full resolution. */
+    synchronized void onResult(boolean detected) {
+        idle = detected ? 0 : idle + 1;
+    }
+
+    /**
+     * Copies the centered {@code side x side} square of a luma plane, keeping every
+     * {@code step}-th pixel and row, into the NV21 buffer (sized {@link #width()} x {@link #height()}).
+     */
+    byte[] crop(ByteBuffer luma, int rowStride, int pixelStride, int frameW, int frameH, int side, int step) {
+        side = Math.min(side, Math.min(frameW, frameH));
+        int out = (side / step) & ~1; // NV21 needs even dimensions
+        int size = out * out;
+        if (nv21.length != size + size / 2) {
+            nv21 = new byte[size + size / 2];
+            Arrays.fill(nv21, size, nv21.length, (byte) 128); // neutral chroma, never written again
+        }
+        width = height = out;
+
+        int left = (frameW - side) / 2;
+        int top = (frameH - side) / 2;
+        for (int row = 0; row < out; row++) {
+            int src = (top + row * step) * rowStride + left * pixelStride;
+            int dst = row * out;
+            if (step == 1 && pixelStride == 1) {
+                luma.position(src);
+                luma.get(nv21, dst, out);
+            } else {
+                for (int col = 0; col < out; col++) {
+                    nv21[dst + col] = luma.get(src + col * step * pixelStride);
+                }
+            }
+        }
+        luma.rewind();
+        return nv21;
+    }
+
+    int width() {
+        return width;
+    }
+
+    int height() {
+        return height;
+    }
+}
@@ -25,6 +25,10 @@ public class SessionManager {
                 .apply();
     }
 
+    public String getUserId() {
+        return sp.getString(KEY_USER_ID, null);
+    }
+
     public boolean isQRAuthenticated() {
         return sp.contains(KEY_USER_ID);
     }
@@ -0,0 +1,84 @@
+package com.example.beplay_v3;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * A signed access QR code, verified on the device with the issuer's public key:
+ *
+ *   BP1.&lt;payload&gt;.&lt;signature&gt;
+ *
+ * both parts base64url without padding. The payload is "Userid=Beplay;ExpirationDate=1767225600"
+ * (UTF-8, expiry in epoch seconds); the signature is SHA256withECDSA (P-256, DER) over the
+ * payload part exactly as it appears in the code.
+ */
+final class SignedAccessToken {
+
+    static final String PREFIX = "BP1.";
+    static final String ALGORITHM = "SHA256withECDSA";
+
+    final String userId;
+    final long expiryMs;
+
+    private SignedAccessToken(String userId, long expiryMs) {
+        this.userId = userId;
+        this.expiryMs = expiryMs;
+    }
+
+    /** Whether {@code raw} is in the signed format at all (it may still fail {@link #verify}). */
+    static boolean looksLike(String raw) {
+        return raw != null && raw.startsWith(PREFIX);
+    }
+
+    /** The issuer key from its base64 X.509 (SubjectPublicKeyInfo) form, or null if blank or unreadable. */
+    static PublicKey issuerKey(String base64X509) {
+        if (base64X509 == null || base64X509.trim().isEmpty()) return null;
+        try {
+            byte[] der = Base64.getDecoder().decode(base64X509.trim());
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(der));
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            return null;
+        }
+    }
+
+    /** The token's claims if it is well formed and signed by {@code issuer}; null otherwise. Expiry is not checked. */
+    static SignedAccessToken verify(String raw, PublicKey issuer) {
+        if (!looksLike(raw) || issuer == null) return null;
+        String[] parts = raw.trim().split("\\.");
+        if (parts.length != 3) return null;
+        try {
+            Signature sig = Signature.getInstance(ALGORITHM);
+            sig.initVerify(issuer);
+            sig.update(parts[1].getBytes(StandardCharsets.US_ASCII));
+            if (!sig.verify(Base64.getUrlDecoder().decode(parts[2]))) return null;
+
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            return parseClaims(payload);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            return null; // bad base64, or a signature that is not DER
+        }
+    }
+
+    private static SignedAccessToken parseClaims(String payload) {
+        String userId = null;
+        long expirySeconds = -1;
+        for (String p : payload.split(";")) {
+            String[] kv = p.split("=", 2);
+            if (kv.length != 2) continue;
+            String k = kv[0].trim().toLowerCase(Locale.US);
+            String v = kv[1].trim();
+            if ("userid".equals(k)) userId = v;
+            if ("expirationdate".equals(k)) {
+                try { expirySeconds = Long.parseLong(v); } catch (NumberFormatException ignored) {}
+            }
+        }
+        if (userId == null || userId.isEmpty() || expirySeconds <= 0) return null;
+        return new SignedAccessToken(userId, expirySeconds * 1000L);
+    }
+}
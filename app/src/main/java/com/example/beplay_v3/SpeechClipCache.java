@@ -0,0 +1,328 @@
+package com.example.beplay_v3;
+
+import android.content.Context;
+import android.media.AudioAttributes;
+import android.media.SoundPool;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.SystemClock;
+import android.speech.tts.TextToSpeech;
+import android.util.Log;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pre-synthesized speech for prompts that are spoken over and over (screen intros, "Back",
+ * catalog labels). The engine renders each one once to a WAV under cacheDir/tts-clips, keyed
+ * by voice + rate + pitch + text; later the clip is played straight from a SoundPool, which
+ * starts in a few ms instead of waiting for the engine to synthesize the first buffer.
+ *
+ * Synthesis runs one clip at a time and only while nothing is being spoken, so it never
+ * delays real speech. Owned by {@link SpeechService}; main thread only, disk work on {@code io}.
+ */
+final class SpeechClipCache {
+
+    private static final String TAG = "SpeechClipCache";
+
+    static final String ID_PREFIX = "clip:";
+
+    private static final long DISK_BUDGET_BYTES = 8L * 1024 * 1024;
+    private static final int MAX_LOADED = 48;            // clips decoded into the SoundPool
+    private static final int MAX_PENDING = 64;           // queued synthesis jobs
+    private static final int MAX_TEXT_CHARS = 200;       // longer texts are one-off messages
+
+    private final Handler main;
+    private final TextToSpeech engine;
+    private final File dir;
+    private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "tts-clips");
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+    private final SoundPool pool;
+
+    // ===== Main-thread state =====
+    private String voice = "default";
+    private boolean indexed = false;                     // disk scan finished
+    private final List<Runnable> afterIndex = new ArrayList<>();
+    private final LinkedHashMap<String, Long> onDisk = new LinkedHashMap<>(64, 0.75f, true); // key -> bytes, LRU
+    private long diskBytes = 0;
+    private final LinkedHashMap<String, Clip> loaded = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Clip> eldest) {
+            if (size() <= MAX_LOADED) return false;
+            pool.unload(eldest.getValue().soundId);
+            bySoundId.remove(eldest.getValue().soundId);
+            return true;
+        }
+    };
+    private final Map<Integer, Clip> bySoundId = new HashMap<>();
+    private final Set<String> warming = new HashSet<>();
+    private final ArrayDeque<Job> pending = new ArrayDeque<>();
+    private final Set<String> queued = new HashSet<>();
+    private Job synthesizing;
+
+    private int streamId = 0;
+    private long playingUntil = 0;                       // uptimeMillis
+
+    SpeechClipCache(Context appContext, TextToSpeech engine, Handler main) {
+        this.main = main;
+        this.engine = engine;
+        this.dir = new File(appContext.getCacheDir(), "tts-clips");
+        this.pool = new SoundPool.Builder()
+                .setMaxStreams(1)
+                .setAudioAttributes(new AudioAttributes.Builder()
+                        .setUsage(AudioAttributes.USAGE_ASSISTANCE_ACCESSIBILITY)
+                        .setContentType(AudioAttributes.CONTENT_TYPE_SPEECH)
+                        .build())
+                .build();
+        pool.setOnLoadCompleteListener((p, soundId, status) -> main.post(() -> {
+            Clip c = bySoundId.get(soundId);
+            if (c != null) c.loaded = status == 0;
+        }));
+        io.execute(this::scan);
+    }
+
+    /** Clips are per voice; call once the engine knows which one it uses. */
+    void setVoice(String voiceName) {
+        if (voiceName != null && !voiceName.isEmpty()) voice = voiceName;
+    }
+
+    // ===== Playback =====
+
+    /** Plays the clip for this text if it is loaded; returns its length in ms, or -1 on a miss. */
+    long play(String text, float rate, float pitch) {
+        String key = key(text, rate, pitch);
+        Clip c = loaded.get(key);
+        if (c == null || !c.loaded) {
+            if (c == null && onDisk.containsKey(key)) warm(key); // next time
+            return -1;
+        }
+        stop();
+        streamId = pool.play(c.soundId, 1f, 1f, 1, 0, 1f);
+        if (streamId == 0) return -1;
+        onDisk.get(key); // touch
+        playingUntil = SystemClock.uptimeMillis() + c.durationMs;
+        return c.durationMs;
+    }
+
+    void stop() {
+        if (streamId != 0) pool.stop(streamId);
+        streamId = 0;
+        playingUntil = 0;
+    }
+
+    boolean isPlaying() {
+        return streamId != 0 && SystemClock.uptimeMillis() < playingUntil;
+    }
+
+    // ===== Warming / synthesis =====
+
+    /** Makes sure this text has a clip: loads it if it is on disk, otherwise queues synthesis. */
+    void prewarm(String text, float rate, float pitch) {
+        if (!indexed) {
+            afterIndex.add(() -> prewarm(text, rate, pitch));
+            return;
+        }
+        String t = text != null ? text.trim() : "";
+        if (t.isEmpty() || t.length() > MAX_TEXT_CHARS) return;
+        String key = key(t, rate, pitch);
+        if (onDisk.containsKey(key)) {
+            if (!loaded.containsKey(key)) warm(key);
+        } else if (!queued.contains(key) && pending.size() < MAX_PENDING) {
+            queued.add(key);
+            pending.add(new Job(key, t, rate, pitch));
+            kick();
+        }
+    }
+
+    /** Starts the next synthesis job if the engine is idle; called again whenever speech ends. */
+    void kick() {
+        if (synthesizing != null || pending.isEmpty()) return;
+        if (engine.isSpeaking() || isPlaying()) return;
+        Job job = pending.poll();
+        synthesizing = job;
+        engine.setSpeechRate(job.rate);
+        engine.setPitch(job.pitch);
+        int r = engine.synthesizeToFile(job.text, Bundle.EMPTY, tmpFile(job.key), ID_PREFIX + job.key);
+        if (r != TextToSpeech.SUCCESS) {
+            synthesizing = null;
+            queued.remove(job.key);
+        }
+    }
+
+    /** Engine callback for a {@link #ID_PREFIX} utterance; {@code ok} false means stopped or failed. */
+    void onSynthesized(String key, boolean ok, boolean retry) {
+        Job job = synthesizing;
+        if (job == null || !job.key.equals(key)) return;
+        synthesizing = null;
+        if (!ok) {
+            if (retry) {
+                pending.addFirst(job);      // flushed by real speech; try again when idle
+            } else {
+                queued.remove(key);
+                io.execute(() -> tmpFile(key).delete());
+            }
+            return;
+        }
+        io.execute(() -> {
+            File tmp = tmpFile(key);
+            File out = clipFile(key);
+            long ms = WavHeader.durationMs(tmp);
+            boolean good = ms > 0 && tmp.renameTo(out);
+            if (!good) tmp.delete();
+            long bytes = out.length();
+            main.post(() -> {
+                queued.remove(key);
+                if (good) {
+                    onDisk.put(key, bytes);
+                    diskBytes += bytes;
+                    trim();
+                    load(key, out, ms);
+                }
+                kick();
+            });
+        });
+    }
+
+    private void warm(String key) {
+        if (!warming.add(key)) return;
+        io.execute(() -> {
+            File f = clipFile(key);
+            long ms = WavHeader.durationMs(f);
+            main.post(() -> {
+                warming.remove(key);
+                if (ms > 0) {
+                    load(key, f, ms);
+                } else {
+                    forget(key); // unreadable; synthesize again on next prewarm
+                }
+            });
+        });
+    }
+
+    private void load(String key, File f, long durationMs) {
+        if (!onDisk.containsKey(key) || loaded.containsKey(key)) return;
+        Clip c = new Clip(pool.load(f.getPath(), 1), durationMs);
+        bySoundId.put(c.soundId, c);
+        loaded.put(key, c);
+    }
+
+    // ===== Disk index =====
+
+    private void scan() {
+        Map<String, Long> found = new LinkedHashMap<>();
+        File[] files = dir.listFiles();
+        if (files == null) {
+            if (!dir.mkdirs() && !dir.isDirectory()) Log.w(TAG, "cannot create " + dir);
+        } else {
+            Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+            for (File f : files) {
+                String name = f.getName();
+                if (name.endsWith(".wav")) {
+                    found.put(name.substring(0, name.length() - 4), f.length());
+                } else {
+                    f.delete(); // leftover .tmp from a killed process
+                }
+            }
+        }
+        main.post(() -> {
+            for (Map.Entry<String, Long> e : found.entrySet()) {
+                onDisk.put(e.getKey(), e.getValue());
+                diskBytes += e.getValue();
+            }
+            indexed = true;
+            trim();
+            List<Runnable> run = new ArrayList<>(afterIndex);
+            afterIndex.clear();
+            for (Runnable r : run) r.run();
+        });
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<String, Long>> it = onDisk.entrySet().iterator();
+        while (diskBytes > DISK_BUDGET_BYTES && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            String key = eldest.getKey();
+            diskBytes -= eldest.getValue();
+            it.remove();
+            dropLoaded(key);
+            io.execute(() -> clipFile(key).delete());
+        }
+    }
+
+    private void forget(String key) {
+        Long bytes = onDisk.remove(key);
+        if (bytes != null) diskBytes -= bytes;
+        dropLoaded(key);
+        io.execute(() -> clipFile(key).delete());
+    }
+
+    private void dropLoaded(String key) {
+        Clip c = loaded.remove(key);
+        if (c != null) {
+            pool.unload(c.soundId);
+            bySoundId.remove(c.soundId);
+        }
+    }
+
+    private File clipFile(String key) {
+        return new File(dir, key + ".wav");
+    }
+
+    private File tmpFile(String key) {
+        return new File(dir, key + ".tmp");
+    }
+
+    private String key(String text, float rate, float pitch) {
+        String raw = voice + '|' + rate + '|' + pitch + '|' + text.trim();
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-1").digest(raw.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(d.length * 2);
+            for (byte b : d) sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // SHA-1 is always present on Android
+        }
+    }
+
+    private static final class Clip {
+        final int soundId;
+        final long durationMs;
+        boolean loaded = false;                          // set by OnLoadCompleteListener
+
+        Clip(int soundId, long durationMs) {
+            this.soundId = soundId;
+            this.durationMs = durationMs;
+        }
+    }
+
+    private static final class Job {
+        final String key;
+        final String text;
+        final float rate;
+        final float pitch;
+
+        Job(String key, String text, float rate, float pitch) {
+            this.key = key;
+            this.text = text;
+            this.rate = rate;
+            this.pitch = pitch;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.beplay_v3;
+
+/**
+ * How important an utterance is, lowest first. A new utterance interrupts anything of the
+ * same or lower priority and waits behind anything higher (see {@link UtteranceScheduler}).
+ */
+public enum SpeechPriority {
+    /** Screen intro ("Choose language"). */
+    INTRO,
+    /** Label of the focused item; bursts collapse to the most recent one. */
+    FOCUS,
+    /** Response to something the user did (selected, joined, went back). */
+    ACTION,
+    /** Errors and state changes the user must hear (connection lost, request failed). */
+    ALERT
+}
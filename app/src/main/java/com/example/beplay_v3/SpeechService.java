@@ -0,0 +1,300 @@
+package com.example.beplay_v3;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.speech.tts.TextToSpeech;
+import android.speech.tts.UtteranceProgressListener;
+import android.speech.tts.Voice;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * One TextToSpeech engine for the whole process.
+ * It is created when the app starts (see {@link BePlayApp}) and never shut down, so a new
+ * screen can speak its intro right away instead of re-binding the TTS service and waiting
+ * for onInit on every navigation.
+ *
+ * Screens talk to it through a {@link Handle}. Every request goes through one
+ * {@link UtteranceScheduler}, which orders them by {@link SpeechPriority} and collapses bursts
+ * of focus labels; onStart/onDone/onError reach the screen that spoke, on the main thread,
+ * with its own id.
+ *
+ * Prompts that have been pre-synthesized (see {@link SpeechClipCache}) are played from a
+ * SoundPool instead of the engine; the screen gets the same callbacks either way.
+ */
+public final class SpeechService {
+
+    private static final String TAG = "SpeechService";
+    private static final String ID_PREFIX = "u:";
+    private static final long FOCUS_SETTLE_MS = 150;    // focus changes closer than this are a scroll
+    private static final int LATENCY_LOG_EVERY = 20;    // focus samples between latency log lines
+
+    /** Utterance callbacks, on the main thread, with the id the screen passed to speak(). */
+    public interface Listener {
+        default void onStart(String utteranceId) {}
+        default void onDone(String utteranceId) {}
+        default void onError(String utteranceId) {}
+    }
+
+    private static volatile SpeechService instance;
+
+    private final Handler main = new Handler(Looper.getMainLooper());
+    private final TextToSpeech engine;
+    private final SpeechClipCache clips;
+    private final Object clipToken = new Object();      // pending onDone of the playing clip
+    private final UtteranceScheduler scheduler;
+    private final LatencyTracker latency = new LatencyTracker(); // request -> first audio, per priority
+
+    // Main thread only
+    private Boolean ready;                              // null until onInit
+    private final List<Consumer<Boolean>> waiting = new ArrayList<>();
+    private int focusSamples = 0;
+
+    private SpeechService(Context appContext) {
+        engine = new TextToSpeech(appContext, status -> main.post(() -> onInit(status == TextToSpeech.SUCCESS)));
+        engine.setOnUtteranceProgressListener(new UtteranceProgressListener() {
+            @Override public void onStart(String id) { dispatch(id, 0); }
+            @Override public void onDone(String id)  { dispatch(id, 1); }
+            @Override public void onError(String id) { dispatch(id, 2); }
+            @Override public void onStop(String id, boolean interrupted) { dispatch(id, 3); }
+        });
+        clips = new SpeechClipCache(appContext, engine, main);
+        scheduler = new UtteranceScheduler(new UtteranceScheduler.Output() {
+            @Override public void play(UtteranceScheduler.Utterance u) { playNow(u); }
+            @Override public void halt() { stopClip(); engine.stop(); }
+            @Override public void schedule(Runnable r, long delayMs) { main.postDelayed(r, delayMs); }
+            @Override public void unschedule(Runnable r) { main.removeCallbacks(r); }
+        }, SystemClock::uptimeMillis, FOCUS_SETTLE_MS);
+    }
+
+    public static SpeechService get(Context ctx) {
+        SpeechService local = instance;
+        if (local == null) {
+            synchronized (SpeechService.class) {
+                local = instance;
+                if (local == null) {
+                    local = new SpeechService(ctx.getApplicationContext());
+                    instance = local;
+                }
+            }
+        }
+        return local;
+    }
+
+    /** A handle for {@code owner}; released (and its speech stopped) when the owner is destroyed. Main thread. */
+    public Handle attach(LifecycleOwner owner) {
+        Handle h = new Handle();
+        Lifecycle lc = owner.getLifecycle();
+        if (lc.getCurrentState() == Lifecycle.State.DESTROYED) {
+            h.release();
+        } else {
+            lc.addObserver(h);
+        }
+        return h;
+    }
+
+    /** Speech not tied to a screen (e.g. the launch greeting); it plays to the end. Main thread. */
+    public Handle detached() {
+        return new Handle();
+    }
+
+    /** Renders {@code texts} ahead of time so they later play from the clip cache. Main thread. */
+    public void prewarm(Iterable<String> texts, float rate, float pitch) {
+        whenReady(ok -> {
+            if (!ok) return;
+            for (String t : texts) clips.prewarm(t, rate, pitch);
+        });
+    }
+
+    private void whenReady(Consumer<Boolean> callback) {
+        if (ready != null) callback.accept(ready);
+        else waiting.add(callback);
+    }
+
+    private void onInit(boolean ok) {
+        if (ok) {
+            engine.setLanguage(Locale.US);
+            Voice v = engine.getVoice();
+            if (v != null) clips.setVoice(v.getName());
+        } else {
+            Log.w(TAG, "TextToSpeech initialization failed");
+        }
+        ready = ok;
+        List<Consumer<Boolean>> run = new ArrayList<>(waiting);
+        waiting.clear();
+        for (Consumer<Boolean> c : run) c.accept(ok);
+    }
+
+    // ===== Playback (called by the scheduler) =====
+
+    private void playNow(UtteranceScheduler.Utterance u) {
+        Handle h = (Handle) u.owner;
+        stopClip();
+        long clipMs = clips.play(u.text, h.rate, h.pitch);
+        if (clipMs >= 0) {
+            engine.stop();
+            main.post(() -> { if (scheduler.current() == u) onUtteranceStart(u); });
+            main.postAtTime(() -> {
+                scheduler.onFinished(u);
+                clips.kick();
+                if (h.listener != null) h.listener.onDone(u.id);
+            }, clipToken, SystemClock.uptimeMillis() + clipMs);
+            return;
+        }
+        clips.prewarm(u.text, h.rate, h.pitch); // so it is a clip next time
+        engine.setSpeechRate(h.rate);
+        engine.setPitch(h.pitch);
+        engine.speak(u.text, TextToSpeech.QUEUE_FLUSH, Bundle.EMPTY, ID_PREFIX + u.serial);
+    }
+
+    private void stopClip() {
+        clips.stop();
+        main.removeCallbacksAndMessages(clipToken);
+    }
+
+    private void onUtteranceStart(UtteranceScheduler.Utterance u) {
+        long ms = SystemClock.uptimeMillis() - u.requestedAt;
+        latency.record(u.priority.name(), ms);
+        if (u.priority == SpeechPriority.FOCUS && ++focusSamples % LATENCY_LOG_EVERY == 0) {
+            String key = SpeechPriority.FOCUS.name();
+            Log.d(TAG, "focus→audio p50 " + latency.percentile(key, 50, 1)
+                    + " ms, p95 " + latency.percentile(key, 95, 1) + " ms");
+        }
+        Handle h = (Handle) u.owner;
+        if (h.listener != null) h.listener.onStart(u.id);
+    }
+
+    // kind: 0 start, 1 done, 2 error, 3 stopped (flushed or interrupted)
+    private void dispatch(String rawId, int kind) {
+        if (rawId == null) return;
+        main.post(() -> {
+            if (rawId.startsWith(SpeechClipCache.ID_PREFIX)) {
+                if (kind != 0) clips.onSynthesized(rawId.substring(SpeechClipCache.ID_PREFIX.length()), kind == 1, kind == 3);
+                return;
+            }
+            if (!rawId.startsWith(ID_PREFIX)) return;
+            UtteranceScheduler.Utterance u = scheduler.current();
+            if (u == null || !rawId.equals(ID_PREFIX + u.serial)) {
+                if (kind != 0) clips.kick();
+                return; // an utterance that was already replaced
+            }
+            if (kind == 0) {
+                onUtteranceStart(u);
+                return;
+            }
+            scheduler.onFinished(u);
+            clips.kick(); // the engine may be idle now
+            Handle h = (Handle) u.owner;
+            if (h.listener == null || kind == 3) return;
+            if (kind == 1) h.listener.onDone(u.id);
+            else h.listener.onError(u.id);
+        });
+    }
+
+    // ===== Per-screen handle =====
+
+    /** Lightweight per-screen view of the shared engine. Main thread only. */
+    public final class Handle implements DefaultLifecycleObserver {
+        private Listener listener;
+        private float rate = 1.0f;
+        private float pitch = 1.0f;
+        private boolean released = false;
+
+        private Handle() {}
+
+        public Handle setVoice(float rate, float pitch) {
+            this.rate = rate;
+            this.pitch = pitch;
+            return this;
+        }
+
+        public Handle setListener(Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Runs {@code callback} with true once the engine is usable (false if it failed to start).
+         * Immediate after the first screen, which is the whole point.
+         */
+        public void whenReady(Consumer<Boolean> callback) {
+            if (released) return;
+            if (ready != null) {
+                callback.accept(ready);
+            } else {
+                waiting.add(ok -> { if (!released) callback.accept(ok); });
+            }
+        }
+
+        public boolean isReady() {
+            return Boolean.TRUE.equals(ready);
+        }
+
+        /** Speaks {@code text} as a response to the user ({@link SpeechPriority#ACTION}). */
+        public void speak(String text, String utteranceId) {
+            say(text, utteranceId, SpeechPriority.ACTION);
+        }
+
+        /**
+         * Speaks {@code text} now if nothing more important is playing, otherwise once it is.
+         * Ignored until the engine is ready.
+         */
+        public void say(String text, String utteranceId, SpeechPriority priority) {
+            submit(text, utteranceId, priority, false);
+        }
+
+        /** Speaks {@code text} after whatever is playing, without interrupting it. */
+        public void speakAfter(String text, String utteranceId) {
+            submit(text, utteranceId, SpeechPriority.ACTION, true);
+        }
+
+        /** Pre-synthesizes texts this screen is about to speak (e.g. catalog labels) in this voice. */
+        public void prewarm(String... texts) {
+            if (released || !isReady()) return;
+            for (String t : texts) clips.prewarm(t, rate, pitch);
+        }
+
+        private void submit(String text, String utteranceId, SpeechPriority priority, boolean after) {
+            if (released || !isReady() || text == null) return;
+            String t = text.trim();
+            if (t.isEmpty()) return;
+            scheduler.submit(new UtteranceScheduler.Utterance(this, t, utteranceId != null ? utteranceId : "",
+                    priority, after, SystemClock.uptimeMillis()));
+        }
+
+        public boolean isSpeaking() {
+            UtteranceScheduler.Utterance u = scheduler.current();
+            return u != null && u.owner == this;
+        }
+
+        /** Stops speech this screen queued; never cuts off a screen that has spoken since. */
+        public void stop() {
+            scheduler.cancel(this);
+        }
+
+        public void release() {
+            if (released) return;
+            stop();
+            released = true;
+            listener = null;
+        }
+
+        @Override
+        public void onDestroy(@NonNull LifecycleOwner owner) {
+            owner.getLifecycle().removeObserver(this);
+            release();
+        }
+    }
+}
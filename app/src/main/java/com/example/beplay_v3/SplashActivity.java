@@ -3,9 +3,6 @@ package com.example.beplay_v3;
 import android.annotation.SuppressLint;
 import android.content.Intent;
 import android.os.Bundle;
-import android.os.Handler;
-import android.os.Looper;
-import android.speech.tts.TextToSpeech;
 import android.widget.ImageView;
 import android.widget.TextView;
 
@@ -15,17 +12,16 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
-import java.util.Locale;
 
 public class SplashActivity extends AppCompatActivity {
 
-    private static final int SPLASH_DURATION = 3500; // 3.5s to allow TTS + fade
+    // Route as soon as launch work is done, but never flash the logo or hang on a slow network
+    private static final long MIN_DISPLAY_MS = 600;
+    private static final long MAX_DISPLAY_MS = 2500;
 
-    private TextToSpeech tts;
     private SessionManager session;
 
-    private Handler handler;
-    private final Runnable routeRunnable = this::decideNext;
+    private ReadinessGate gate;
 
     private boolean routed = false; // guard against double navigation
 
@@ -57,21 +53,38 @@ public class SplashActivity extends AppCompatActivity {
             welcomeText.animate().alpha(1f).setDuration(1000).setStartDelay(500).start();
         }
 
-        // TTS welcome
-        tts = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                tts.setLanguage(Locale.US);
-                tts.setSpeechRate(1.0f);
-                tts.speak("Welcome to BePlay", TextToSpeech.QUEUE_FLUSH, null, "beplay_welcome");
-            }
+        gate = new ReadinessGate(MIN_DISPLAY_MS, MAX_DISPLAY_MS, this::decideNext);
+
+        // TTS welcome on the shared engine (started by BePlayApp). Not tied to this screen,
+        // so the greeting plays to the end even if we route mid-sentence.
+        Runnable ttsReady = gate.expect("tts");
+        SpeechService.Handle welcome = SpeechService.get(this).detached();
+        welcome.setListener(new SpeechService.Listener() {
+            @Override public void onDone(String utteranceId) { welcome.release(); }
+            @Override public void onError(String utteranceId) { welcome.release(); }
+        });
+        welcome.whenReady(ok -> {
+            if (ok) welcome.speak("Welcome to BePlay", "beplay_welcome");
+            ttsReady.run();
         });
 
         // Session manager
         session = SessionManager.get(this);
+        boolean signedIn = session.isQRAuthenticated() && !session.isQRExpired();
+        gate.expect("session").run();
+
+        // Use the splash window for the network: resolve + TLS-connect to the API now and
+        // pull the language list into memory, so MainActivity renders without waiting
+        BePlayApi api = BePlayApi.get(this);
+        api.warmUp(gate.expect("connection"));
+        if (signedIn) {
+            CatalogRepository.get(this)
+                    .prefetch(api.service().languages(), Language.class, langs -> langs)
+                    .whenDone(gate.expect("languages"));
+        }
 
-        // Route after the splash delay
-        handler = new Handler(Looper.getMainLooper());
-        handler.postDelayed(routeRunnable, SPLASH_DURATION);
+        // Route once all of the above are in (see ReadinessGate for min/max)
+        gate.start();
     }
 
     /** Decide where to go next after splash. */
@@ -94,15 +107,8 @@ public class SplashActivity extends AppCompatActivity {
 
     @Override
     protected void onDestroy() {
-        // Stop TTS cleanly
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-        }
         // Cancel pending navigation if activity is being destroyed early
-        if (handler != null) {
-            handler.removeCallbacks(routeRunnable);
-        }
+        if (gate != null) gate.cancel();
         super.onDestroy();
     }
 }
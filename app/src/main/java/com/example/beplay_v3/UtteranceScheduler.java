@@ -0,0 +1,162 @@
+package com.example.beplay_v3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides what the speech engine says next, so it is only asked to speak what is still relevant.
+ *
+ * - One utterance plays at a time. A new one interrupts the current one if its
+ *   {@link SpeechPriority} is the same or higher, otherwise it waits.
+ * - Focus labels are coalesced: the first focus change speaks at once, but a change that
+ *   follows within {@code settleMs} of the previous one (fast DPAD scrolling) silences the
+ *   stale label and holds the new one until focus has been still for {@code settleMs}.
+ *   Only the most recent waiting focus label is kept.
+ *
+ * Pure Java, single-threaded (the main thread in the app); the {@link Output} plays audio and
+ * reports back through {@link #onFinished}.
+ */
+final class UtteranceScheduler {
+
+    interface Output {
+        /** Start {@code u}, interrupting whatever is playing. */
+        void play(Utterance u);
+        /** Silence the current utterance. */
+        void halt();
+        void schedule(Runnable r, long delayMs);
+        void unschedule(Runnable r);
+    }
+
+    static final class Utterance {
+        final Object owner;
+        final String text;
+        final String id;
+        final SpeechPriority priority;
+        final boolean afterCurrent;                     // speakAfter: never interrupts
+        final long requestedAt;
+        int serial;
+
+        Utterance(Object owner, String text, String id, SpeechPriority priority, boolean afterCurrent, long requestedAt) {
+            this.owner = owner;
+            this.text = text;
+            this.id = id;
+            this.priority = priority;
+            this.afterCurrent = afterCurrent;
+            this.requestedAt = requestedAt;
+        }
+    }
+
+    private final Output out;
+    private final LongSupplier clock;
+    private final long settleMs;
+
+    private Utterance current;
+    private final List<Utterance> held = new ArrayList<>();  // waiting behind something more important
+    private Utterance pendingFocus;                          // latest focus label not yet spoken
+    private boolean settling = false;
+    private long lastFocusAt = Long.MIN_VALUE / 2;
+    private int nextSerial = 1;
+
+    private final Runnable settled = () -> {
+        settling = false;
+        if (pendingFocus != null && (current == null || current.priority.compareTo(SpeechPriority.FOCUS) <= 0)) {
+            Utterance u = pendingFocus;
+            pendingFocus = null;
+            start(u);
+        }
+    };
+
+    UtteranceScheduler(Output out, LongSupplier clock, long settleMs) {
+        this.out = out;
+        this.clock = clock;
+        this.settleMs = settleMs;
+    }
+
+    Utterance current() {
+        return current;
+    }
+
+    void submit(Utterance u) {
+        u.serial = nextSerial++;
+        if (u.priority == SpeechPriority.FOCUS && !u.afterCurrent) {
+            submitFocus(u);
+        } else if (current == null) {
+            start(u);
+        } else if (!u.afterCurrent && u.priority.compareTo(current.priority) >= 0) {
+            start(u);
+        } else {
+            held.add(u);
+        }
+    }
+
+    private void submitFocus(Utterance u) {
+        long now = clock.getAsLong();
+        boolean burst = now - lastFocusAt < settleMs;
+        lastFocusAt = now;
+
+        if (current != null && current.priority == SpeechPriority.FOCUS && current.text.equals(u.text)) {
+            pendingFocus = null; // focus bounced back to what is being said
+            return;
+        }
+        if (current != null && current.priority.compareTo(SpeechPriority.FOCUS) > 0) {
+            pendingFocus = u; // said once the action/alert is over
+            return;
+        }
+        if (!burst) {
+            pendingFocus = null;
+            start(u);
+            return;
+        }
+        // Scrolling: drop the stale label now, speak the latest once focus settles
+        if (current != null && current.priority == SpeechPriority.FOCUS) {
+            current = null;
+            out.halt();
+        }
+        pendingFocus = u;
+        out.unschedule(settled);
+        settling = true;
+        out.schedule(settled, settleMs);
+    }
+
+    /** The engine finished, failed or was stopped while playing {@code u}. */
+    void onFinished(Utterance u) {
+        if (u != current) return; // already replaced
+        current = null;
+        next();
+    }
+
+    /** Drops everything {@code owner} queued and silences it if it is speaking. */
+    void cancel(Object owner) {
+        held.removeIf(u -> u.owner == owner);
+        if (pendingFocus != null && pendingFocus.owner == owner) pendingFocus = null;
+        if (current != null && current.owner == owner) {
+            current = null;
+            out.halt();
+            next();
+        }
+    }
+
+    private void start(Utterance u) {
+        current = u;
+        out.play(u);
+    }
+
+    private void next() {
+        Utterance best = null;
+        for (Utterance u : held) {
+            if (best == null || u.priority.compareTo(best.priority) > 0) best = u;
+        }
+        if (pendingFocus != null && !settling
+                && (best == null || SpeechPriority.FOCUS.compareTo(best.priority) > 0)) {
+            Utterance u = pendingFocus;
+            pendingFocus = null;
+            start(u);
+            return;
+        }
+        if (best != null) {
+            held.remove(best);
+            start(best);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.beplay_v3;
+
+import androidx.appcompat.app.AppCompatActivity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Voice commands for a screen's {@link ButtonList}, one {@link VoicePager} page at a time.
+ * The page follows DPAD focus, "next page" / "previous page" turn it, and the phrase set
+ * goes to {@link VoicePhraseRegistry} once per list change or page turn. Main thread only.
+ */
+final class VoiceList {
+
+    private final ButtonList list;
+    private final VoicePhraseRegistry.Scope scope;
+    private final Consumer<String> announce;
+    private final VoicePager pager = new VoicePager();
+
+    // Enabled rows only: error/empty messages get no phrase
+    private final List<Integer> positions = new ArrayList<>();
+
+    VoiceList(AppCompatActivity activity, ButtonList list, Consumer<String> announce) {
+        this.list = list;
+        this.announce = announce;
+        this.scope = VoicePhraseRegistry.get(activity).attach(activity); // "back" is shared by the registry
+
+        list.addOnChangedListener(this::publish);
+
+        // Scrolling past the page edge with the DPAD moves the voice page along
+        activity.getWindow().getDecorView().getViewTreeObserver().addOnGlobalFocusChangeListener((oldFocus, newFocus) -> {
+            if (pager.showIndex(positions.indexOf(list.positionOf(newFocus)))) scope.setPhrases(pager.phrases());
+        });
+    }
+
+    /** Handles a keycode from the speech service; false if it is not one of ours. */
+    boolean onKeyDown(int keyCode) {
+        if (keyCode == VoicePager.KEY_NEXT_PAGE || keyCode == VoicePager.KEY_PREVIOUS_PAGE) {
+            boolean moved = keyCode == VoicePager.KEY_NEXT_PAGE ? pager.next() : pager.previous();
+            if (moved) {
+                turnPage();
+            } else {
+                announce.accept(keyCode == VoicePager.KEY_NEXT_PAGE ? "Last page" : "First page");
+            }
+            return true;
+        }
+        int index = pager.resolve(keyCode);
+        if (index < 0) return false;
+        list.click(positions.get(index));
+        return true;
+    }
+
+    private void publish() {
+        positions.clear();
+        List<String> labels = new ArrayList<>();
+        List<ButtonList.Row> rows = list.rows();
+        for (int i = 0; i < rows.size(); i++) {
+            if (!rows.get(i).enabled) continue;
+            positions.add(i);
+            labels.add(rows.get(i).label);
+        }
+        pager.setLabels(labels);
+        pager.showIndex(positions.indexOf(list.positionOf(list.focusedItem()))); // a refresh keeps the user's page
+        scope.setPhrases(pager.phrases());
+    }
+
+    private void turnPage() {
+        scope.setPhrases(pager.phrases());
+        // Announce first so the focus label is queued behind it, not cut off by it
+        announce.accept("Page " + (pager.page() + 1) + " of " + pager.pageCount());
+        list.focus(positions.get(pager.firstOnPage()));
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.beplay_v3;
+
+import android.view.KeyEvent;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Voice addressing for lists of any length.
+ * Only one page of items has phrases at a time ("select &lt;label&gt;" and "item N"), plus
+ * "next page" / "previous page". Slot N of every page reuses the same keycode, so the
+ * keycode pool never runs out and a spoken command resolves to an item with one array lookup.
+ *
+ * Slots use A–Z and 0–9 only; F-keys stay free for screen commands (lock/unlock on the call
+ * screen). Pure bookkeeping, no views; see {@link VoiceList} for the screen side.
+ */
+final class VoicePager {
+
+    static final int PAGE_SIZE = 10;
+    static final int KEY_NEXT_PAGE = KeyEvent.KEYCODE_PAGE_DOWN;
+    static final int KEY_PREVIOUS_PAGE = KeyEvent.KEYCODE_PAGE_UP;
+
+    // Voice UX: always prefix to avoid collisions like "UK" ≈ "OK"
+    private static final String VOICE_PREFIX = "select ";
+
+    // Blacklist short/ambiguous words (never register them bare)
+    private static final Set<String> PHRASE_BLACKLIST = new HashSet<>(Arrays.asList(
+            "ok", "okay", "o k", "k", "yes", "no", "yeah", "yep"
+    ));
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
+    private static final int[] SLOT_KEYS = new int[PAGE_SIZE];
+    private static final int[] SLOT_BY_KEY = new int[256];   // keycode -> slot, -1 if none
+    static {
+        Arrays.fill(SLOT_BY_KEY, -1);
+        List<Integer> pool = new ArrayList<>();
+        for (int c = KeyEvent.KEYCODE_A; c <= KeyEvent.KEYCODE_Z; c++) pool.add(c);
+        for (int c = KeyEvent.KEYCODE_0; c <= KeyEvent.KEYCODE_9; c++) pool.add(c);
+        for (int slot = 0; slot < PAGE_SIZE; slot++) {
+            SLOT_KEYS[slot] = pool.get(slot);
+            SLOT_BY_KEY[SLOT_KEYS[slot]] = slot;
+        }
+    }
+
+    private List<String> labels = Collections.emptyList();
+    private int page = 0;
+
+    /** New list; starts on the first page. */
+    void setLabels(List<String> labels) {
+        this.labels = new ArrayList<>(labels);
+        page = 0;
+    }
+
+    int page() {
+        return page;
+    }
+
+    int pageCount() {
+        return Math.max(1, (labels.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    int firstOnPage() {
+        return page * PAGE_SIZE;
+    }
+
+    /** Moves to the page holding {@code index} (e.g. DPAD focus left the page); true if it changed. */
+    boolean showIndex(int index) {
+        if (index < 0 || index >= labels.size()) return false;
+        int p = index / PAGE_SIZE;
+        if (p == page) return false;
+        page = p;
+        return true;
+    }
+
+    boolean next() {
+        if (page + 1 >= pageCount()) return false;
+        page++;
+        return true;
+    }
+
+    boolean previous() {
+        if (page == 0) return false;
+        page--;
+        return true;
+    }
+
+    /** Item index for a keycode delivered by the speech service, or -1. */
+    int resolve(int keycode) {
+        if (keycode < 0 || keycode >= SLOT_BY_KEY.length) return -1;
+        int slot = SLOT_BY_KEY[keycode];
+        if (slot < 0) return -1;
+        int index = page * PAGE_SIZE + slot;
+        return index < labels.size() ? index : -1;
+    }
+
+    /** Phrase → keycode set for the current page. */
+    Map<String, Integer> phrases() {
+        Map<String, Integer> out = new LinkedHashMap<>();
+        int end = Math.min(labels.size(), firstOnPage() + PAGE_SIZE);
+        for (int i = firstOnPage(); i < end; i++) {
+            int key = SLOT_KEYS[i - firstOnPage()];
+            String label = labels.get(i);
+
+            // Primary phrase with original casing, plus a normalized lowercase variant
+            String primary = buildVoicePhrase(label);
+            out.put(primary, key);
+            String secondary = buildVoicePhrase(normalizeLower(label));
+            if (!secondary.equalsIgnoreCase(primary)) out.put(secondary, key);
+
+            out.put("item " + (i - firstOnPage() + 1), key);
+        }
+        if (pageCount() > 1) {
+            out.put("next page", KEY_NEXT_PAGE);
+            out.put("Next page", KEY_NEXT_PAGE);
+            out.put("previous page", KEY_PREVIOUS_PAGE);
+            out.put("Previous page", KEY_PREVIOUS_PAGE);
+        }
+        return out;
+    }
+
+    // Normalize to a simpler, case/diacritics-insensitive form
+    static String normalizeLower(String in) {
+        if (in == null) return "";
+        String norm = DIACRITICS.matcher(Normalizer.normalize(in, Normalizer.Form.NFD)).replaceAll("");
+        return norm.toLowerCase(Locale.US).trim();
+    }
+
+    // Always prefix, and never allow plain ambiguous words
+    static String buildVoicePhrase(String rawLabel) {
+        String normalized = normalizeLower(rawLabel);
+        if (PHRASE_BLACKLIST.contains(normalized)) {
+            return VOICE_PREFIX + normalized;
+        }
+        return VOICE_PREFIX + rawLabel;
+    }
+}
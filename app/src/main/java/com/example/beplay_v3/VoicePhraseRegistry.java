@@ -0,0 +1,181 @@
+package com.example.beplay_v3;
+
+import android.content.Context;
+import android.util.Log;
+import android.view.KeyEvent;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+
+import com.vuzix.sdk.speechrecognitionservice.VuzixSpeechClient;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One Vuzix speech client for the whole process.
+ * Screens hand over the full phrase → keycode set they want (see {@link Scope#setPhrases});
+ * the registry diffs it, together with the shared static phrases, against what the speech
+ * service already has and applies only the delta, in one job on a background thread.
+ * Re-rendering the same list costs no IPC at all.
+ *
+ * Only the resumed screen's phrases are registered, so keycodes reused by different screens
+ * never collide; a screen's phrases are withdrawn when it pauses, so screens without a scope
+ * (scanner, splash) never hear another screen's "item 3". Main thread only, apart from the worker.
+ */
+public final class VoicePhraseRegistry {
+
+    private static final String TAG = "VoicePhraseRegistry";
+
+    /** Registered once for every screen and never deleted. */
+    private static final Map<String, Integer> SHARED;
+    static {
+        Map<String, Integer> m = new LinkedHashMap<>();
+        m.put("back", KeyEvent.KEYCODE_BACK);
+        m.put("Back", KeyEvent.KEYCODE_BACK); // case variation
+        m.put("find", KeyEvent.KEYCODE_SEARCH); // opens FindActivity via onSearchRequested()
+        m.put("Find", KeyEvent.KEYCODE_SEARCH);
+        SHARED = Collections.unmodifiableMap(m);
+    }
+
+    private static volatile VoicePhraseRegistry instance;
+
+    private final Context appContext;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> new Thread(r, "voice-phrases"));
+
+    // Main thread only
+    private Scope active;
+
+    // Latest desired set; the worker always applies the newest one and skips stale ones
+    private final AtomicReference<Map<String, Integer>> desired = new AtomicReference<>();
+
+    // Worker thread only
+    private VuzixSpeechClient client;
+    private boolean clientFailed = false;
+    private final Map<String, Integer> registered = new HashMap<>();
+
+    private VoicePhraseRegistry(Context appContext) {
+        this.appContext = appContext;
+        publish();
+    }
+
+    public static VoicePhraseRegistry get(Context ctx) {
+        VoicePhraseRegistry local = instance;
+        if (local == null) {
+            synchronized (VoicePhraseRegistry.class) {
+                local = instance;
+                if (local == null) {
+                    local = new VoicePhraseRegistry(ctx.getApplicationContext());
+                    instance = local;
+                }
+            }
+        }
+        return local;
+    }
+
+    /** Phrases for {@code owner}; registered while it is resumed, withdrawn when it pauses. */
+    public Scope attach(LifecycleOwner owner) {
+        Scope s = new Scope();
+        Lifecycle lc = owner.getLifecycle();
+        if (lc.getCurrentState() != Lifecycle.State.DESTROYED) lc.addObserver(s);
+        return s;
+    }
+
+    // ===== Diff + apply =====
+
+    private void publish() {
+        Map<String, Integer> want = new LinkedHashMap<>(SHARED);
+        if (active != null) want.putAll(active.phrases);
+        // Only schedule a job if none is waiting; a waiting job will pick up this newer set
+        if (desired.getAndSet(want) == null) worker.execute(this::apply);
+    }
+
+    private void apply() {
+        Map<String, Integer> want = desired.getAndSet(null);
+        if (want == null || !ensureClient()) return;
+
+        PhraseDelta delta = PhraseDelta.between(registered, want);
+        if (delta.isEmpty()) return;
+        for (String phrase : delta.removed) {
+            try {
+                client.deletePhrase(phrase);
+            } catch (Exception e) {
+                Log.w(TAG, "deletePhrase failed: " + phrase, e);
+            }
+            registered.remove(phrase);
+        }
+        for (Map.Entry<String, Integer> e : delta.added.entrySet()) {
+            try {
+                client.insertKeycodePhrase(e.getKey(), e.getValue());
+                registered.put(e.getKey(), e.getValue());
+            } catch (Exception ex) {
+                Log.w(TAG, "insertKeycodePhrase failed: " + e.getKey(), ex);
+            }
+        }
+        Log.d(TAG, "phrases: -" + delta.removed.size() + " +" + delta.added.size() + " = " + registered.size());
+    }
+
+    private boolean ensureClient() {
+        if (client != null) return true;
+        if (clientFailed) return false;
+        try {
+            client = new VuzixSpeechClient(appContext);
+            return true;
+        } catch (Exception | NoClassDefFoundError e) {
+            clientFailed = true; // not a Vuzix device; voice commands simply stay off
+            Log.w(TAG, "Vuzix speech unavailable", e);
+            return false;
+        }
+    }
+
+    // ===== Per-screen scope =====
+
+    /** A screen's dynamic phrases. Main thread only. */
+    public final class Scope implements DefaultLifecycleObserver {
+        private Map<String, Integer> phrases = Collections.emptyMap();
+
+        private Scope() {}
+
+        /** Replaces this screen's phrase → keycode set; only the difference reaches the service. */
+        public void setPhrases(Map<String, Integer> phrases) {
+            this.phrases = new LinkedHashMap<>(phrases);
+            if (active == this) publish();
+        }
+
+        public void clear() {
+            setPhrases(Collections.emptyMap());
+        }
+
+        @Override
+        public void onResume(@NonNull LifecycleOwner owner) {
+            active = this;
+            publish();
+        }
+
+        // The next screen resumes right after; a worker job still waiting takes both as one delta
+        @Override
+        public void onPause(@NonNull LifecycleOwner owner) {
+            if (active == this) {
+                active = null;
+                publish();
+            }
+        }
+
+        @Override
+        public void onDestroy(@NonNull LifecycleOwner owner) {
+            owner.getLifecycle().removeObserver(this);
+            phrases = Collections.emptyMap();
+            if (active == this) {
+                active = null;
+                publish();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.beplay_v3;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/** Just enough RIFF/WAVE parsing to know how long a synthesized clip plays. */
+final class WavHeader {
+
+    private WavHeader() {}
+
+    /** Playback length of a PCM WAV file in ms, or -1 if it is not one we understand. */
+    static long durationMs(File wav) {
+        try (InputStream in = new FileInputStream(wav)) {
+            return durationMs(in);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    static long durationMs(InputStream raw) throws IOException {
+        DataInputStream in = new DataInputStream(raw);
+        long byteRate = -1;
+        try {
+            if (readTag(in) != tag("RIFF")) return -1;
+            readLe32(in); // RIFF size
+            if (readTag(in) != tag("WAVE")) return -1;
+
+            while (true) {
+                int id = readTag(in);
+                long size = readLe32(in) & 0xFFFFFFFFL;
+                if (id == tag("fmt ")) {
+                    in.skipBytes(8);                 // format, channels, sample rate
+                    byteRate = readLe32(in) & 0xFFFFFFFFL;
+                    skipFully(in, size - 12 + (size & 1));
+                } else if (id == tag("data")) {
+                    if (byteRate <= 0) return -1;
+                    return size * 1000L / byteRate;
+                } else {
+                    skipFully(in, size + (size & 1)); // chunks are word-aligned
+                }
+            }
+        } catch (EOFException e) {
+            return -1;
+        }
+    }
+
+    private static int tag(String s) {
+        return (s.charAt(0) << 24) | (s.charAt(1) << 16) | (s.charAt(2) << 8) | s.charAt(3);
+    }
+
+    private static int readTag(DataInputStream in) throws IOException {
+        return in.readInt(); // big-endian, matches tag()
+    }
+
+    private static int readLe32(DataInputStream in) throws IOException {
+        int b0 = in.readUnsignedByte(), b1 = in.readUnsignedByte(), b2 = in.readUnsignedByte(), b3 = in.readUnsignedByte();
+        return b0 | (b1 << 8) | (b2 << 16) | (b3 << 24);
+    }
+
+    private static void skipFully(DataInputStream in, long n) throws IOException {
+        while (n > 0) {
+            int step = (int) Math.min(n, Integer.MAX_VALUE);
+            int skipped = in.skipBytes(step);
+            if (skipped <= 0) {
+                in.readByte(); // throws EOFException at the end
+                skipped = 1;
+            }
+            n -= skipped;
+        }
+    }
+}
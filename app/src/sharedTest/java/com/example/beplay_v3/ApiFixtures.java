@@ -0,0 +1,127 @@
+package com.example.beplay_v3;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * API payloads shared by the JVM tests and the on-device benchmarks (src/sharedTest).
+ */
+final class ApiFixtures {
+
+    private static final String LANGUAGES =
+            "[{\"id\":\"1\",\"nome\":\"Português\",\"codigo\":\"pt\",\"status\":\"1\",\"codPais\":\"br\","
+            + "\"created_at\":\"2024-01-01\",\"updated_at\":\"2024-02-01\"}]";
+    private static final String CATEGORIES =
+            "[{\"id\":\"9\",\"nome\":\"Teatro\",\"nomeIdioma\":\"Português\",\"descricao\":\"d\",\"textoAlternativo\":\"t\","
+            + "\"fluxo\":\"f\",\"statusCategoriaIdioma\":1,\"codigoBandeira\":\"br\",\"codigoPais\":\"br\",\"arquivoImagem\":\"a.png\"}]";
+    private static final String EVENTS =
+            "[{\"id\":3,\"eventName\":\"Show\",\"moreDetails\":\"m\",\"status\":\"1\",\"watchers\":\"2\",\"eventFormat\":\"f\","
+            + "\"exhibitionType\":\"e\",\"publicEventLink\":\"p\",\"internalLink\":\"i\",\"dateStart\":\"ds\",\"dateFinish\":\"df\","
+            + "\"hourStart\":\"hs\",\"hourFinish\":\"hf\",\"created_at\":\"c\",\"updated_at\":\"u\",\"is_unic\":\"0\",\"image\":\"img\","
+            + "\"image_alt\":\"alt\",\"lacation_event\":\"SP\",\"link\":\"l\",\"label_link\":\"ll\",\"client_id\":\"7\",\"categoria_id\":\"9\","
+            + "\"client\":{\"id\":7,\"name\":\"n\",\"email\":\"e\",\"email_verified_at\":\"v\",\"created_at\":\"c\",\"updated_at\":\"u\","
+            + "\"isCompany\":\"1\",\"companyName\":\"co\",\"cpfCnpj\":\"x\",\"phone\":\"p\",\"is_temp\":\"0\"}}]";
+    private static final String ROOMS =
+            "{\"rooms\":[{\"id\":4,\"name\":\"Sala 1\",\"description\":\"d\",\"event_slug_link\":\"s\","
+            + "\"created_at\":\"c\",\"updated_at\":\"u\"}]}";
+    private static final String REGIONS =
+            "{\"idioma\":[{\"id\":5,\"nome\":\"Norte\",\"codigo\":\"n\",\"status\":\"1\",\"codPais\":\"br\"}]}";
+    private static final String REGION_LANGUAGES =
+            "{\"language\":[{\"id\":6,\"name\":\"English\",\"code\":\"en\",\"codLanguage\":\"en-US\","
+            + "\"created_at\":\"c\",\"updated_at\":\"u\"}]}";
+    private static final String ACCESSIBILITIES =
+            "{\"accessibility\":[{\"id\":8,\"name\":\"Libras\",\"image_link\":\"i\",\"alt_image\":\"a\","
+            + "\"type_channel_id\":\"1\",\"link\":\"l\"}]}";
+    private static final String ACCESSIBILITY_DETAIL = "{\"professional\":{\"id\":11,\"name\":\"Ana\"}}";
+    private static final String CHANNEL =
+            "{\"channel\":{\"id_app\":\"app\",\"token\":\"tok\",\"channel_name\":\"ch\",\"id_channel\":\"old\","
+            + "\"accessibility\":{\"id\":8,\"name\":\"Libras\",\"type_channel_id\":\"1\"}}}";
+    private static final String REGION_ITEM = "{\"region_id\":\"12\",\"region_name\":\"Sul\"}";
+
+    /** One payload per API model, with the type it parses into. */
+    static final Object[][] MODELS = {
+            {LANGUAGES, Language[].class},
+            {CATEGORIES, CategoryItem[].class},
+            {EVENTS, EventItem[].class},
+            {ROOMS, RoomsEnvelope.class},
+            {REGIONS, RegionsEnvelope.class},
+            {REGION_LANGUAGES, RegionLanguagesEnvelope.class},
+            {ACCESSIBILITIES, AccessibilitiesEnvelope.class},
+            {ACCESSIBILITY_DETAIL, AccessibilityDetailEnvelope.class},
+            {CHANNEL, ChannelEnvelope.class},
+            {REGION_ITEM, RegionItem.class},
+    };
+
+    // ===== Large events payload =====
+
+    /** A GET .../events body with {@code count} events, shaped like the real API's. */
+    static byte[] eventsPayload(int count) {
+        StringBuilder sb = new StringBuilder(count * 900).append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":").append(i)
+              .append(",\"eventName\":\"Evento número ").append(i).append("\"")
+              .append(",\"moreDetails\":\"").append("Descrição longa do evento com acessibilidade. ".repeat(4)).append("\"")
+              .append(",\"status\":\"1\",\"watchers\":\"120\",\"eventFormat\":\"presencial\"")
+              .append(",\"exhibitionType\":\"live\",\"publicEventLink\":\"https://beplay.io/e/").append(i).append("\"")
+              .append(",\"internalLink\":null,\"dateStart\":\"2025-09-01\",\"dateFinish\":\"2025-09-03\"")
+              .append(",\"hourStart\":\"19:00\",\"hourFinish\":\"22:00\"")
+              .append(",\"created_at\":\"2025-01-01T10:00:00.000000Z\",\"updated_at\":\"2025-08-0").append(i % 9 + 1).append("T10:00:00.000000Z\"")
+              .append(",\"is_unic\":\"0\",\"image\":\"events/").append(i).append(".png\",\"image_alt\":\"Cartaz\"")
+              .append(",\"lacation_event\":\"São Paulo\",\"link\":null,\"label_link\":null")
+              .append(",\"client_id\":\"7\",\"categoria_id\":\"9\"")
+              .append(",\"client\":{\"id\":7,\"name\":\"Cliente\",\"email\":\"c@example.com\",\"email_verified_at\":null")
+              .append(",\"created_at\":\"2024-01-01\",\"updated_at\":\"2024-01-02\",\"isCompany\":\"1\"")
+              .append(",\"companyName\":\"Empresa\",\"cpfCnpj\":\"00.000.000/0001-00\",\"phone\":\"+55\",\"is_temp\":\"0\"}}");
+        }
+        return sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // What the screens did before: body().string(), JsonParser tree, then pick fields out
+    static EventItem[] parseEventsWithTree(byte[] payload) {
+        String body = new String(payload, StandardCharsets.UTF_8);
+        JsonArray arr = JsonParser.parseString(body).getAsJsonArray();
+        EventItem[] out = new EventItem[arr.size()];
+        int i = 0;
+        for (JsonElement el : arr) {
+            JsonObject o = el.getAsJsonObject();
+            EventItem e = new EventItem();
+            e.id = safeInt(o, "id");
+            e.eventName = safeString(o, "eventName");
+            e.updatedAt = safeString(o, "updated_at");
+            e.categoriaId = safeString(o, "categoria_id");
+            if (o.has("client") && o.get("client").isJsonObject()) {
+                e.client = new EventItem.Client();
+                e.client.name = safeString(o.getAsJsonObject("client"), "name");
+            }
+            out[i++] = e;
+        }
+        return out;
+    }
+
+    // What the screens do now: ApiJson adapters fed straight from the byte stream
+    static EventItem[] parseEventsStreaming(Gson gson, byte[] payload) throws IOException {
+        try (Reader r = new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8)) {
+            return gson.fromJson(r, EventItem[].class);
+        }
+    }
+
+    private static String safeString(JsonObject o, String k) {
+        return (o.has(k) && !o.get(k).isJsonNull()) ? o.get(k).getAsString() : null;
+    }
+
+    private static Integer safeInt(JsonObject o, String k) {
+        return (o.has(k) && !o.get(k).isJsonNull()) ? o.get(k).getAsInt() : null;
+    }
+
+    private ApiFixtures() {}
+}
@@ -0,0 +1,34 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AccessCodeTest {
+
+    @Test
+    public void readsBothSeparatorsAndAnyKeyCase() {
+        AccessCode a = AccessCode.parse("Userid=Beplay;Password=1111");
+        assertEquals("Beplay", a.userId);
+        assertEquals("1111", a.password);
+
+        AccessCode b = AccessCode.parse(" Password=22 ; UserId:Guest ");
+        assertEquals("Guest", b.userId);
+        assertEquals("22", b.password);
+    }
+
+    @Test
+    public void stripsQuotes() {
+        AccessCode a = AccessCode.parse("userid=\"Beplay\";password=' 1111 '");
+        assertEquals("Beplay", a.userId);
+        assertEquals("1111", a.password);
+    }
+
+    @Test
+    public void needsUserAndPassword() {
+        assertNull(AccessCode.parse("Userid=Beplay"));
+        assertNull(AccessCode.parse("https://example.com/?Userid=Beplay"));
+        assertNull(AccessCode.parse(""));
+        assertNull(AccessCode.parse(null));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.beplay_v3;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+
+import static org.junit.Assert.*;
+
+public class ApiCallCacheTest {
+
+    interface Catalog {
+        @GET("idiomas/{codPais}/categorias")
+        ApiCall<String[]> categories(@Path("codPais") String codPais);
+    }
+
+    @Rule public final TemporaryFolder dir = new TemporaryFolder();
+
+    private final MockWebServer server = new MockWebServer();
+    private OkHttpClient client;
+    private Catalog catalog;
+
+    @Before
+    public void setUp() throws Exception {
+        server.start();
+        client = new OkHttpClient.Builder()
+                .cache(new Cache(dir.newFolder("http"), 1024 * 1024))
+                .addNetworkInterceptor(new CatalogCacheInterceptor())
+                .build();
+        catalog = new Retrofit.Builder()
+                .baseUrl(server.url("/api/"))
+                .client(client)
+                .callbackExecutor(Runnable::run)
+                .addCallAdapterFactory(new ApiCallAdapterFactory(client, new FetchPolicy()))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(Catalog.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.cache().close();
+        server.shutdown();
+    }
+
+    @Test
+    public void secondCallDeliversTheCachedCopyFirst() throws Exception {
+        // The API's own headers would forbid serving it without the network
+        server.enqueue(new MockResponse().setBody("[\"Shows\",\"Sports\"]")
+                .setHeader("Cache-Control", "no-cache").setHeader("ETag", "\"v1\""));
+        assertEquals(Arrays.asList("network Shows,Sports", "finished"), run());
+        server.takeRequest();
+
+        server.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"v1\""));
+        assertEquals(Arrays.asList("cache Shows,Sports", "finished"), run());
+        RecordedRequest revalidation = server.takeRequest();
+        assertEquals("\"v1\"", revalidation.getHeader("If-None-Match"));
+
+        // Changed on the server: the cached copy first, then the new one
+        server.enqueue(new MockResponse().setBody("[\"Shows\"]").setHeader("ETag", "\"v2\""));
+        assertEquals(Arrays.asList("cache Shows,Sports", "network Shows", "finished"), run());
+        assertEquals("\"v1\"", server.takeRequest().getHeader("If-None-Match"));
+    }
+
+    @Test
+    public void failingNetworkKeepsTheStaleCopy() throws Exception {
+        server.enqueue(new MockResponse().setBody("[\"Shows\"]").setHeader("ETag", "\"v1\""));
+        assertEquals(Arrays.asList("network Shows", "finished"), run());
+
+        server.shutdown();
+        assertEquals(Arrays.asList("cache Shows", "finished"), run());
+    }
+
+    @Test
+    public void failingNetworkWithNothingStoredReportsTheFailure() throws Exception {
+        server.shutdown();
+        List<String> events = run();
+        assertEquals(2, events.size());
+        assertTrue(events.get(0), events.get(0).startsWith("failure"));
+        assertEquals("finished", events.get(1));
+    }
+
+    private List<String> run() throws InterruptedException {
+        List<String> events = new ArrayList<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        catalog.categories("BR").enqueue(new ApiCallback<String[]>() {
+            @Override public void onResponse(Response<String[]> response, boolean fromCache) {
+                events.add((fromCache ? "cache " : "network ") + String.join(",", response.body()));
+            }
+
+            @Override public void onFailure(Throwable t) {
+                events.add("failure " + t);
+            }
+
+            @Override public void onFinished() {
+                events.add("finished");
+                finished.countDown();
+            }
+        });
+        assertTrue("call finished", finished.await(10, TimeUnit.SECONDS));
+        return events;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.beplay_v3;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.ReflectionAccessFilter;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * The hand-written ApiJson adapters must cover every model (no reflective fallback)
+ * and agree with what Gson's reflective adapters produce.
+ * The cold-parse benchmark on the same payloads is ApiJsonColdParseBenchmark (androidTest).
+ */
+public class ApiJsonTest {
+
+    @Test
+    public void everyModelParsesWithoutReflection() {
+        // Any model that would fall back to the reflective adapter throws here
+        Gson noReflection = ApiJson.register(new GsonBuilder())
+                .addReflectionAccessFilter(rawClass -> ReflectionAccessFilter.FilterResult.BLOCK_ALL)
+                .create();
+        for (Object[] f : ApiFixtures.MODELS) {
+            Object parsed = noReflection.fromJson((String) f[0], (Class<?>) f[1]);
+            assertNotNull(parsed);
+            noReflection.toJson(parsed);
+        }
+        noReflection.fromJson("{\"idioma\":{\"id\":1,\"nome\":\"x\"},\"event\":{\"a\":[1,2]}}", RegionDetailEnvelope.class);
+    }
+
+    @Test
+    public void handWrittenAdaptersMatchReflectiveGson() {
+        Gson reflective = new GsonBuilder().create();
+        Gson handWritten = ApiJson.register(new GsonBuilder()).create();
+        for (Object[] f : ApiFixtures.MODELS) {
+            Class<?> type = (Class<?>) f[1];
+            Object viaReflection = reflective.fromJson((String) f[0], type);
+            Object viaAdapters = handWritten.fromJson((String) f[0], type);
+
+            JsonElement expected = JsonParser.parseString(reflective.toJson(viaReflection));
+            JsonElement actual = JsonParser.parseString(reflective.toJson(viaAdapters));
+            assertEquals(type.getSimpleName(), expected, actual);
+
+            // and the adapters write the same document back
+            assertEquals(type.getSimpleName(), expected, JsonParser.parseString(handWritten.toJson(viaAdapters)));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CachingDnsTest {
+
+    private long now = 0L;
+    private int lookups = 0;
+    private boolean resolverDown = false;
+
+    private final CachingDns dns = new CachingDns(host -> {
+        lookups++;
+        if (resolverDown) throw new UnknownHostException(host);
+        return Collections.singletonList(InetAddress.getByAddress(host, new byte[]{10, 0, 0, (byte) lookups}));
+    }, 1_000, 5_000, () -> now);
+
+    @Test
+    public void reusesAnswerWithinTtl() throws Exception {
+        List<InetAddress> first = dns.lookup("console.beplay.io");
+        now = 999;
+        assertSame(first, dns.lookup("console.beplay.io"));
+        assertEquals(1, lookups);
+
+        now = 1_000;
+        assertNotEquals(first, dns.lookup("console.beplay.io"));
+        assertEquals(2, lookups);
+    }
+
+    @Test
+    public void servesStaleAnswerWhenResolverFails() throws Exception {
+        List<InetAddress> first = dns.lookup("console.beplay.io");
+        resolverDown = true;
+        now = 5_999;
+        assertSame(first, dns.lookup("console.beplay.io"));
+
+        now = 6_000;
+        try {
+            dns.lookup("console.beplay.io");
+            fail("stale window is over");
+        } catch (UnknownHostException expected) {
+        }
+    }
+
+    @Test
+    public void hostsAreCachedSeparately() throws Exception {
+        dns.lookup("a.beplay.io");
+        dns.lookup("b.beplay.io");
+        dns.lookup("a.beplay.io");
+        assertEquals(2, lookups);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CatalogIndexTest {
+
+    private static final String EVENTS = "idiomas/BR/categoria/9/events";
+    private static final String ROOMS = "idiomas/BR/categoria/9/event/117/rooms";
+
+    @Test
+    public void foldsDiacriticsAndCase() {
+        CatalogIndex index = new CatalogIndex();
+        index.putLevel(EVENTS, List.of(node("117", "Festival São João"), node("118", "Congresso Médico")));
+
+        assertEquals(List.of("Festival São João"), labels(index.search("sao joao", 10)));
+        assertEquals(List.of("Congresso Médico"), labels(index.search("MEDICO", 10)));
+    }
+
+    @Test
+    public void everyWordMustMatchAsPrefix() {
+        CatalogIndex index = new CatalogIndex();
+        index.putLevel(ROOMS, List.of(node("4", "Sala Azul"), node("5", "Sala Verde"), node("6", "Auditório Azul")));
+
+        assertEquals(List.of("Sala Azul", "Auditório Azul"), labels(index.search("az", 10)));
+        assertEquals(List.of("Sala Verde"), labels(index.search("sal ver", 10)));
+        assertTrue(index.search("sala roxa", 10).isEmpty());
+    }
+
+    @Test
+    public void oneTypoIsToleratedOnLongerWords() {
+        CatalogIndex index = new CatalogIndex();
+        index.putLevel(ROOMS, List.of(node("4", "Auditorium"), node("5", "Lobby")));
+
+        assertEquals(List.of("Auditorium"), labels(index.search("auditorim", 10)));
+        assertEquals(List.of("Auditorium"), labels(index.search("avditorium", 10)));
+        assertTrue(index.search("lobi", 10).isEmpty()); // short words must be spelled right
+    }
+
+    @Test
+    public void exactBeforePrefixAndTyposOnlyAsFallback() {
+        CatalogIndex index = new CatalogIndex();
+        index.putLevel(ROOMS, List.of(node("1", "Stages"), node("2", "Stage"), node("3", "Stags")));
+
+        assertEquals(List.of("Stage", "Stages"), labels(index.search("stage", 10)));
+        assertEquals(List.of("Stage", "Stags", "Stages"), labels(index.search("stagz", 10))); // all one edit from "stag"
+    }
+
+    @Test
+    public void entriesCarryThePathIds() {
+        CatalogIndex index = new CatalogIndex();
+        index.putLevel(ROOMS, List.of(node("4", "Main Hall")));
+
+        CatalogIndex.Entry e = index.search("hall", 1).get(0);
+        assertEquals(CatalogIndex.Kind.ROOM, e.kind);
+        assertEquals("BR", e.id("idiomas"));
+        assertEquals("9", e.id("categoria"));
+        assertEquals("117", e.id("event"));
+        assertEquals("4", e.id("room"));
+    }
+
+    @Test
+    public void replacingALevelDropsOldNames() {
+        CatalogIndex index = new CatalogIndex();
+        index.putLevel(EVENTS, List.of(node("1", "Old Expo")));
+        index.putLevel(EVENTS, List.of(node("2", "New Expo")));
+
+        assertEquals(List.of("New Expo"), labels(index.search("expo", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void otherLevelsAreNotIndexed() {
+        CatalogIndex index = new CatalogIndex();
+        index.putLevel("idiomas", List.of(node("BR", "Português")));
+        index.putLevel("idiomas/BR/categoria/undefined", List.of(node("9", "Shows")));
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void survivesRebuildAfterManyReplacements() {
+        CatalogIndex index = new CatalogIndex();
+        for (int round = 0; round < 3; round++) {
+            List<CatalogNode> events = new ArrayList<>();
+            for (int i = 0; i < 400; i++) events.add(node(String.valueOf(i), "Event " + round + " " + i));
+            index.putLevel(EVENTS, events);
+        }
+        index.putLevel(ROOMS, List.of(node("4", "Main Hall")));
+
+        assertEquals(401, index.size());
+        assertEquals(List.of("Event 2 17"), labels(index.search("event 2 17", 1)));
+        assertEquals(List.of("Main Hall"), labels(index.search("main", 10)));
+    }
+
+    @Test
+    public void lookupsReadOnlyTheMatchingPostings() {
+        CatalogIndex index = new CatalogIndex();
+        String[] words = {"Sala", "Auditório", "Palco", "Arena", "Pavilhão", "Galeria", "Teatro", "Espaço",
+                "Norte", "Sul", "Leste", "Oeste", "Central", "Principal", "Azul", "Verde"};
+        List<String> labels = new ArrayList<>();
+        for (int ev = 0; ev < 200; ev++) {
+            List<CatalogNode> rooms = new ArrayList<>();
+            for (int r = 0; r < 25; r++) {
+                String label = words[(ev + r) % words.length] + " " + words[(ev * 7 + r) % words.length] + " " + ev + "-" + r;
+                rooms.add(node(String.valueOf(r), label));
+                labels.add(label);
+            }
+            index.putLevel("idiomas/BR/categoria/9/event/" + ev + "/rooms", rooms);
+        }
+        assertEquals(5000, index.size());
+
+        // A known word costs its exact and prefix postings and nothing else, never a pass over every entry
+        for (String query : Arrays.asList("sala", "auditorio norte", "teatr", "arena 42-3")) {
+            index.search(query, 20);
+            int expected = 0;
+            for (String q : CatalogIndex.words(query)) {
+                for (String label : labels) {
+                    for (String w : CatalogIndex.words(label)) {
+                        if (w.equals(q)) expected++;
+                        if (w.startsWith(q)) expected++;
+                    }
+                }
+            }
+            assertEquals(query, expected, index.lastVisited());
+            assertTrue(query + ": " + expected + " postings", expected < index.size());
+        }
+
+        // A typo reads only the subtrees within one edit of the word
+        for (String query : Arrays.asList("pavilao", "galria sul")) {
+            assertFalse(query, index.search(query, 20).isEmpty());
+            assertTrue(query + ": " + index.lastVisited() + " postings", index.lastVisited() < index.size());
+        }
+    }
+
+    private static List<String> labels(List<CatalogIndex.Entry> entries) {
+        List<String> out = new ArrayList<>();
+        for (CatalogIndex.Entry e : entries) out.add(e.label);
+        return out;
+    }
+
+    private static CatalogNode node(String id, String label) {
+        return new CatalogNode() {
+            @Override public String nodeId() { return id; }
+            @Override public String nodeLabel() { return label; }
+            @Override public String nodeUpdatedAt() { return null; }
+        };
+    }
+}
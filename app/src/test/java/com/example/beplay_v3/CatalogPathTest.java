@@ -0,0 +1,76 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CatalogPathTest {
+
+    @Test
+    public void childAddsOneLevel() {
+        CatalogPath p = CatalogPath.country("BR").child("9").child("117");
+        assertEquals(3, p.depth());
+        assertEquals("BR", p.codPais);
+        assertEquals("9", p.categoryId);
+        assertEquals("117", p.eventId);
+        assertNull(p.roomId);
+        assertEquals("idiomas/BR/categoria/9/event/117", p.toString());
+    }
+
+    @Test
+    public void roundTripsThroughItsString() {
+        CatalogPath p = CatalogPath.country("BR").child("9").child("117").child("4").child("5");
+        assertEquals(p, CatalogPath.parse(p.toString()));
+        assertEquals(CatalogPath.EMPTY, CatalogPath.parse(null));
+        assertEquals(CatalogPath.EMPTY, CatalogPath.parse(""));
+    }
+
+    @Test
+    public void parseStopsAtAnUnexpectedSegment() {
+        assertEquals(CatalogPath.country("BR"), CatalogPath.parse("idiomas/BR/event/117"));
+        assertEquals(CatalogPath.country("BR"), CatalogPath.parse("idiomas/BR/categoria"));
+        assertEquals(CatalogPath.EMPTY, CatalogPath.parse("categoria/9"));
+    }
+
+    @Test
+    public void fromStopsAtTheFirstMissingId() {
+        Map<String, String> ids = new HashMap<>();
+        ids.put("idiomas", "BR");
+        ids.put("categoria", "9");
+        ids.put("room", "4"); // no event: the room cannot be reached
+        assertEquals(CatalogPath.country("BR").child("9"), CatalogPath.from(ids::get));
+    }
+
+    @Test
+    public void deepLinkIsTheFullPath() {
+        DeepLink l = DeepLink.parse("beplay://channel?idiomas=br&categoria=9&event=117&room=4&region=5"
+                + "&idioma=6&accessibility=8&professional=11");
+        CatalogPath p = CatalogPath.of(l);
+        assertEquals(CatalogPath.SEGMENTS.length, p.depth());
+        assertEquals("11", p.professionalId);
+        assertEquals(l.toString(), p.toString());
+    }
+
+    @Test
+    public void completePathHasNoChild() {
+        CatalogPath full = CatalogPath.parse(
+                "idiomas/br/categoria/9/event/117/room/4/region/5/idioma/6/accessibility/8/professional/11");
+        try {
+            full.child("12");
+            fail("professional is the last level");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void rejectsEmptyIds() {
+        try {
+            CatalogPath.country("BR").child(" ");
+            fail("blank id accepted");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CircuitBreakerTest {
+
+    private long now = 0L;
+    private final CircuitBreaker breaker = new CircuitBreaker(3, 1_000, () -> now);
+
+    @Test
+    public void opensAfterConsecutiveFailures() {
+        breaker.onFailure();
+        breaker.onFailure();
+        assertTrue(breaker.allow());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.allow());
+    }
+
+    @Test
+    public void successResetsTheCount() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void halfOpenLetsOneTrialThrough() {
+        for (int i = 0; i < 3; i++) breaker.onFailure();
+        now = 1_000;
+        assertTrue(breaker.allow());
+        assertFalse(breaker.allow());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.allow());
+    }
+
+    @Test
+    public void failedTrialReopens() {
+        for (int i = 0; i < 3; i++) breaker.onFailure();
+        now = 1_500;
+        assertTrue(breaker.allow());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        now = 2_000;
+        assertFalse(breaker.allow());
+        now = 2_500;
+        assertTrue(breaker.allow());
+    }
+
+    @Test
+    public void canceledTrialReopensForAnotherCoolDown() {
+        for (int i = 0; i < 3; i++) breaker.onFailure();
+        now = 1_000;
+        assertTrue(breaker.allow());
+        breaker.onCanceled();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.allow());
+        now = 2_000;
+        assertTrue("a new trial after the cool-down", breaker.allow());
+        assertFalse(breaker.allow());
+    }
+
+    @Test
+    public void cancelOutsideATrialChangesNothing() {
+        breaker.onCanceled();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        for (int i = 0; i < 3; i++) breaker.onFailure();
+        breaker.onCanceled();
+        now = 1_000;
+        assertTrue(breaker.allow());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DeepLinkTest {
+
+    private static final String API_PATH =
+            "https://console.beplay.io/api/idiomas/br/categoria/9/event/117/room/4/region/5/idioma/6/accessibility/8/professional/11";
+
+    @Test
+    public void parsesApiPathForm() {
+        DeepLink l = DeepLink.parse(API_PATH);
+        assertNotNull(l);
+        assertEquals("br", l.codPais);
+        assertEquals("9", l.categoryId);
+        assertEquals("117", l.eventId);
+        assertEquals("4", l.roomId);
+        assertEquals("5", l.regionId);
+        assertEquals("6", l.languageId);
+        assertEquals("8", l.accessibilityId);
+        assertEquals("11", l.professionalId);
+    }
+
+    @Test
+    public void parsesQueryForm() {
+        DeepLink l = DeepLink.parse(" beplay://channel?idiomas=br&category=9&event=117&room=4&region=5"
+                + "&language=6&accessibility=8&professional=11 ");
+        assertNotNull(l);
+        assertEquals("9", l.categoryId);
+        assertEquals("6", l.languageId);
+        assertEquals(API_PATH.substring(API_PATH.indexOf("idiomas")), l.toString());
+    }
+
+    @Test
+    public void rejectsOtherPayloads() {
+        assertNull(DeepLink.parse("Userid=Beplay;Password=1111"));
+        assertNull(DeepLink.parse("4006381333931"));
+        assertNull(DeepLink.parse(null));
+        // Wrong host
+        assertNull(DeepLink.parse(API_PATH.replace("console.beplay.io", "beplay.io.example.com")));
+        // Missing the professional id
+        assertNull(DeepLink.parse(API_PATH.substring(0, API_PATH.lastIndexOf("/professional"))));
+        // Ids must be plain tokens
+        assertNull(DeepLink.parse("beplay://channel?idiomas=br&categoria=9&event=117&room=4&region=5"
+                + "&idioma=6&accessibility=8&professional=..%2F..%2Fadmin"));
+    }
+}
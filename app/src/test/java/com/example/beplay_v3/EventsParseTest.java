@@ -0,0 +1,70 @@
+package com.example.beplay_v3;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * The streaming ApiJson decoder, fed straight from the byte stream, against the old path
+ * (body String + JsonObject tree + safeString/safeInt) on a large events payload:
+ * same items, fewer bytes allocated. Latency on the device: EventsParseBenchmark (androidTest).
+ */
+public class EventsParseTest {
+
+    private static final int EVENTS     = 2000;
+    private static final int WARMUP     = 2;
+    private static final int ITERATIONS = 3;
+
+    private final Gson streaming = ApiJson.register(new GsonBuilder()).create();
+
+    @Test
+    public void streamingDecoderMatchesTreePath() throws Exception {
+        byte[] payload = ApiFixtures.eventsPayload(20);
+        EventItem[] tree = ApiFixtures.parseEventsWithTree(payload);
+        EventItem[] stream = ApiFixtures.parseEventsStreaming(streaming, payload);
+
+        assertEquals(tree.length, stream.length);
+        for (int i = 0; i < tree.length; i++) {
+            assertEquals(tree[i].id, stream[i].id);
+            assertEquals(tree[i].eventName, stream[i].eventName);
+            assertEquals(tree[i].updatedAt, stream[i].updatedAt);
+            assertEquals(tree[i].categoriaId, stream[i].categoriaId);
+            assertEquals(tree[i].client.name, stream[i].client.name);
+        }
+    }
+
+    @Test
+    public void streamingAllocatesLessThanTree() throws Exception {
+        java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(mx instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) mx;
+        long self = Thread.currentThread().getId();
+
+        byte[] payload = ApiFixtures.eventsPayload(EVENTS);
+
+        for (int i = 0; i < WARMUP; i++) {
+            ApiFixtures.parseEventsWithTree(payload);
+            ApiFixtures.parseEventsStreaming(streaming, payload);
+        }
+
+        long treeBytes = 0, streamBytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long a0 = threads.getThreadAllocatedBytes(self);
+            ApiFixtures.parseEventsWithTree(payload);
+            treeBytes += threads.getThreadAllocatedBytes(self) - a0;
+
+            a0 = threads.getThreadAllocatedBytes(self);
+            ApiFixtures.parseEventsStreaming(streaming, payload);
+            streamBytes += threads.getThreadAllocatedBytes(self) - a0;
+        }
+
+        assertTrue("streaming decode should allocate less than String + JsonObject tree",
+                streamBytes < treeBytes);
+    }
+}
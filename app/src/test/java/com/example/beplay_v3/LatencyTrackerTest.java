@@ -0,0 +1,35 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyTrackerTest {
+
+    private final LatencyTracker tracker = new LatencyTracker();
+
+    @Test
+    public void unknownUntilEnoughSamples() {
+        for (int i = 0; i < 9; i++) tracker.record("events", 100);
+        assertEquals(-1, tracker.percentile("events", 95, 10));
+        tracker.record("events", 100);
+        assertEquals(100, tracker.percentile("events", 95, 10));
+    }
+
+    @Test
+    public void nearestRankPercentile() {
+        for (int i = 1; i <= 20; i++) tracker.record("rooms", i * 10);
+        assertEquals(190, tracker.percentile("rooms", 95, 1));
+        assertEquals(100, tracker.percentile("rooms", 50, 1));
+        assertEquals(200, tracker.percentile("rooms", 100, 1));
+    }
+
+    @Test
+    public void windowForgetsOldSamplesAndEndpointsAreSeparate() {
+        for (int i = 0; i < LatencyTracker.WINDOW; i++) tracker.record("languages", 5_000);
+        for (int i = 0; i < LatencyTracker.WINDOW; i++) tracker.record("languages", 50);
+        assertEquals(50, tracker.percentile("languages", 95, 1));
+        assertEquals(LatencyTracker.WINDOW, tracker.size("languages"));
+        assertEquals(-1, tracker.percentile("regions", 95, 1));
+    }
+}
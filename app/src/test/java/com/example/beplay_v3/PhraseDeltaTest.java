@@ -0,0 +1,49 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class PhraseDeltaTest {
+
+    @Test
+    public void sameSetIsEmptyDelta() {
+        Map<String, Integer> set = phrases("back", 4, "select English", 29);
+        assertTrue(PhraseDelta.between(set, new LinkedHashMap<>(set)).isEmpty());
+    }
+
+    @Test
+    public void onlyChangesAreApplied() {
+        Map<String, Integer> current = phrases("back", 4, "select English", 29, "select French", 30);
+        Map<String, Integer> desired = phrases("back", 4, "select English", 29, "select German", 30);
+
+        PhraseDelta d = PhraseDelta.between(current, desired);
+        assertEquals(Collections.singletonList("select French"), d.removed);
+        assertEquals(phrases("select German", 30), d.added);
+    }
+
+    @Test
+    public void rekeyedPhraseIsReplaced() {
+        PhraseDelta d = PhraseDelta.between(phrases("select English", 29), phrases("select English", 31));
+        assertEquals(Collections.singletonList("select English"), d.removed);
+        assertEquals(phrases("select English", 31), d.added);
+    }
+
+    @Test
+    public void emptyDesiredRemovesEverything() {
+        PhraseDelta d = PhraseDelta.between(phrases("lock screen", 135, "unlock screen", 136), Collections.emptyMap());
+        assertEquals(Arrays.asList("lock screen", "unlock screen"), d.removed);
+        assertTrue(d.added.isEmpty());
+    }
+
+    private static Map<String, Integer> phrases(Object... kv) {
+        Map<String, Integer> m = new LinkedHashMap<>();
+        for (int i = 0; i < kv.length; i += 2) m.put((String) kv[i], (Integer) kv[i + 1]);
+        return m;
+    }
+}
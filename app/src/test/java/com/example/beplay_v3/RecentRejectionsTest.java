@@ -0,0 +1,36 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class RecentRejectionsTest {
+
+    @Test
+    public void remembersUntilItsTtl() {
+        AtomicLong now = new AtomicLong(1_000);
+        RecentRejections r = new RecentRejections(now::get);
+        r.put("bad", "Invalid password", 30_000);
+        r.put("flaky", "DB error", 3_000);
+
+        now.addAndGet(2_999);
+        assertEquals("Invalid password", r.get("bad"));
+        assertEquals("DB error", r.get("flaky"));
+
+        now.addAndGet(1);
+        assertNull("errors are retried soon", r.get("flaky"));
+        assertEquals("Invalid password", r.get("bad"));
+        assertNull(r.get("never seen"));
+    }
+
+    @Test
+    public void dropsTheOldestWhenFull() {
+        RecentRejections r = new RecentRejections(() -> 0L);
+        for (int i = 0; i <= RecentRejections.MAX_ENTRIES; i++) r.put("code" + i, "User not found", 30_000);
+        assertNull(r.get("code0"));
+        assertEquals("User not found", r.get("code1"));
+        assertEquals("User not found", r.get("code" + RecentRejections.MAX_ENTRIES));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ScanStatsTest {
+
+    private static final long FRAME_NS = 33_000_000L;
+
+    @Test
+    public void bucketsSamplesPerStage() {
+        ScanStats s = new ScanStats();
+        s.record(ScanStats.Stage.DETECT, 0);   // < 1 ms
+        s.record(ScanStats.Stage.DETECT, 5);   // 4..8
+        s.record(ScanStats.Stage.DETECT, 300); // open bucket
+        int[] h = s.histogram(ScanStats.Stage.DETECT);
+        assertEquals(ScanStats.BUCKETS_MS.length + 1, h.length);
+        assertEquals(1, h[0]);
+        assertEquals(1, h[3]);
+        assertEquals(1, h[ScanStats.BUCKETS_MS.length]);
+        assertEquals(0, s.histogram(ScanStats.Stage.WINDOW)[0]);
+        assertEquals(5, s.percentile(ScanStats.Stage.DETECT, 50));
+        assertEquals(-1, s.percentile(ScanStats.Stage.INPUT, 50));
+    }
+
+    @Test
+    public void oldSamplesLeaveTheHistogram() {
+        ScanStats s = new ScanStats();
+        s.record(ScanStats.Stage.ACQUIRE, 100);
+        for (int i = 0; i < ScanStats.WINDOW; i++) s.record(ScanStats.Stage.ACQUIRE, 3);
+        int[] h = s.histogram(ScanStats.Stage.ACQUIRE);
+        assertEquals(ScanStats.WINDOW, h[2]);
+        assertEquals(0, h[7]);
+        assertEquals(3, s.percentile(ScanStats.Stage.ACQUIRE, 95));
+    }
+
+    @Test
+    public void countsFramesSkippedBetweenTimestamps() {
+        ScanStats s = new ScanStats();
+        long t = 1_000_000_000L;
+        s.onFrame(t);
+        s.onFrame(t += FRAME_NS);
+        s.onFrame(t += 3 * FRAME_NS);      // two skipped
+        s.onFrame(t += FRAME_NS + 2_000_000L); // jitter, none skipped
+        assertEquals(4, s.analyzed());
+        assertEquals(2, s.dropped());
+    }
+
+    @Test
+    public void fpsOverTheWindow() {
+        ScanStats s = new ScanStats();
+        assertEquals(0f, s.fps(), 0f);
+        long t = 0;
+        for (int i = 0; i < 2 * ScanStats.WINDOW; i++) s.onFrame(t += 100_000_000L);
+        assertEquals(10f, s.fps(), 0.01f);
+        assertTrue(s.summary().startsWith("10.0 fps, 256 analyzed, 0 dropped"));
+    }
+}
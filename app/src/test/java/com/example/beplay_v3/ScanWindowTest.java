@@ -0,0 +1,85 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class ScanWindowTest {
+
+    /** A frame whose luma byte at (x, y) is x + 10 * y, rows padded to {@code rowStride}. */
+    private static ByteBuffer frame(int w, int h, int rowStride, int pixelStride) {
+        ByteBuffer b = ByteBuffer.allocateDirect(rowStride * h);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) b.put(y * rowStride + x * pixelStride, (byte) (x + 10 * y));
+        }
+        return b;
+    }
+
+    @Test
+    public void sideFollowsTheReticleOnAFilledPreview() {
+        // 1280x720 frame turned to portrait, center-cropped into a 720x1280 view: 1 view px per frame px
+        assertEquals(300, ScanWindow.side(1280, 720, 90, 720, 1280, 240));
+        // Landscape view twice the frame size
+        assertEquals(150, ScanWindow.side(1280, 720, 0, 2560, 1440, 240));
+        // Never more than the frame's short side; everything before layout
+        assertEquals(720, ScanWindow.side(1280, 720, 0, 640, 360, 1000));
+        assertEquals(720, ScanWindow.side(1280, 720, 0, 0, 0, 240));
+    }
+
+    @Test
+    public void cropsTheCenteredSquare() {
+        ScanWindow w = new ScanWindow();
+        byte[] out = w.crop(frame(8, 6, 8, 1), 8, 1, 8, 6, 4, 1);
+        assertEquals(4, w.width());
+        assertEquals(4, w.height());
+        assertEquals(4 * 4 * 3 / 2, out.length);
+        assertEquals(2 + 10, out[0]);        // (2, 1)
+        assertEquals(5 + 10 * 4, out[15]);   // (5, 4)
+        assertEquals((byte) 128, out[16]);   // flat chroma
+    }
+
+    @Test
+    public void honoursRowAndPixelStride() {
+        ScanWindow w = new ScanWindow();
+        byte[] out = w.crop(frame(8, 6, 20, 2), 20, 2, 8, 6, 4, 1);
+        assertEquals(2 + 10, out[0]);
+        assertEquals(3 + 10 * 2, out[5]);    // (3, 2)
+    }
+
+    @Test
+    public void stepKeepsEveryNthPixelAndRow() {
+        ScanWindow w = new ScanWindow();
+        byte[] out = w.crop(frame(8, 8, 8, 1), 8, 1, 8, 8, 8, 2);
+        assertEquals(4, w.width());
+        assertEquals(0, out[0]);
+        assertEquals(2, out[1]);
+        assertEquals(6 + 10 * 6, out[15]);   // (6, 6)
+    }
+
+    @Test
+    public void resolutionDropsWhileIdleAndReturnsOnDetection() {
+        ScanWindow w = new ScanWindow();
+        for (int i = 0; i < ScanWindow.IDLE_PER_STEP; i++) {
+            assertEquals(1, w.step());
+            w.onResult(false);
+        }
+        int full = 0, dropped = 0;
+        for (int i = 0; i < 4 * ScanWindow.IDLE_PER_STEP; i++) {
+            if (w.step() == 1) full++; else dropped++;
+            w.onResult(false);
+        }
+        assertTrue(dropped > full);
+        assertTrue("full-resolution probes continue", full > 0);
+        assertEquals(ScanWindow.MAX_STEP, Math.max(w.step(), stepAfterProbe(w)));
+
+        w.onResult(true);
+        assertEquals(1, w.step());
+    }
+
+    private static int stepAfterProbe(ScanWindow w) {
+        w.onResult(false);
+        return w.step();
+    }
+}
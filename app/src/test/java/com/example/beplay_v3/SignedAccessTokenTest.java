@@ -0,0 +1,79 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import static org.junit.Assert.*;
+
+public class SignedAccessTokenTest {
+
+    private static final Base64.Encoder URL = Base64.getUrlEncoder().withoutPadding();
+
+    private static KeyPair issuer() throws Exception {
+        KeyPairGenerator g = KeyPairGenerator.getInstance("EC");
+        g.initialize(new ECGenParameterSpec("secp256r1"));
+        return g.generateKeyPair();
+    }
+
+    /** What the issuing backend does. */
+    private static String sign(String claims, PrivateKey key) throws Exception {
+        String payload = URL.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        Signature s = Signature.getInstance(SignedAccessToken.ALGORITHM);
+        s.initSign(key);
+        s.update(payload.getBytes(StandardCharsets.US_ASCII));
+        return SignedAccessToken.PREFIX + payload + "." + URL.encodeToString(s.sign());
+    }
+
+    @Test
+    public void verifiesAgainstTheIssuerKey() throws Exception {
+        KeyPair kp = issuer();
+        String token = sign("Userid=Beplay;ExpirationDate=1767225600", kp.getPrivate());
+
+        assertTrue(SignedAccessToken.looksLike(token));
+        SignedAccessToken t = SignedAccessToken.verify(token, kp.getPublic());
+        assertNotNull(t);
+        assertEquals("Beplay", t.userId);
+        assertEquals(1_767_225_600_000L, t.expiryMs);
+    }
+
+    @Test
+    public void readsTheKeyFromItsBase64Form() throws Exception {
+        KeyPair kp = issuer();
+        String encoded = Base64.getEncoder().encodeToString(kp.getPublic().getEncoded());
+        String token = sign("Userid=Beplay;ExpirationDate=1767225600", kp.getPrivate());
+
+        assertNotNull(SignedAccessToken.verify(token, SignedAccessToken.issuerKey(encoded)));
+        assertNull(SignedAccessToken.issuerKey(""));
+        assertNull(SignedAccessToken.issuerKey("not a key"));
+    }
+
+    @Test
+    public void rejectsTamperingAndOtherIssuers() throws Exception {
+        KeyPair kp = issuer();
+        String token = sign("Userid=Beplay;ExpirationDate=1767225600", kp.getPrivate());
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + URL.encodeToString(
+                "Userid=Admin;ExpirationDate=1767225600".getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertNull(SignedAccessToken.verify(forged, kp.getPublic()));
+        assertNull(SignedAccessToken.verify(token, issuer().getPublic()));
+        assertNull(SignedAccessToken.verify(token, null));
+    }
+
+    @Test
+    public void rejectsMalformedCodes() throws Exception {
+        KeyPair kp = issuer();
+        assertFalse(SignedAccessToken.looksLike("Userid=Beplay;Password=1111"));
+        assertNull(SignedAccessToken.verify("BP1.only-one-part", kp.getPublic()));
+        assertNull(SignedAccessToken.verify("BP1.%%%.%%%", kp.getPublic()));
+        // Properly signed, but missing the expiry
+        assertNull(SignedAccessToken.verify(sign("Userid=Beplay", kp.getPrivate()), kp.getPublic()));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.beplay_v3;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class UtteranceSchedulerTest {
+
+    private static final long SETTLE = 150;
+
+    private long now = 1_000;
+    private final List<String> played = new ArrayList<>();
+    private int halts = 0;
+    private Runnable timer;
+    private long timerAt;
+    private UtteranceScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new UtteranceScheduler(new UtteranceScheduler.Output() {
+            @Override public void play(UtteranceScheduler.Utterance u) { played.add(u.text); }
+            @Override public void halt() { halts++; }
+            @Override public void schedule(Runnable r, long delayMs) { timer = r; timerAt = now + delayMs; }
+            @Override public void unschedule(Runnable r) { if (timer == r) timer = null; }
+        }, () -> now, SETTLE);
+    }
+
+    @Test
+    public void singleFocusSpeaksImmediately() {
+        submit("Spanish", SpeechPriority.FOCUS);
+        assertEquals(List.of("Spanish"), played);
+    }
+
+    @Test
+    public void focusBurstCollapsesToLatest() {
+        submit("English", SpeechPriority.FOCUS);
+        advance(60);
+        submit("French", SpeechPriority.FOCUS);
+        advance(60);
+        submit("German", SpeechPriority.FOCUS);
+        advance(60);
+        submit("Italian", SpeechPriority.FOCUS);
+
+        assertEquals(List.of("English"), played);
+        assertEquals(1, halts); // the stale "English" was cut as soon as scrolling started
+        advance(SETTLE);
+        assertEquals(List.of("English", "Italian"), played);
+    }
+
+    @Test
+    public void focusWaitsBehindAlert() {
+        UtteranceScheduler.Utterance alert = submit("Failed to load languages", SpeechPriority.ALERT);
+        advance(500);
+        submit("English", SpeechPriority.FOCUS);
+        submit("French", SpeechPriority.FOCUS);
+        assertEquals(List.of("Failed to load languages"), played);
+
+        scheduler.onFinished(alert);
+        assertEquals(List.of("Failed to load languages", "French"), played);
+    }
+
+    @Test
+    public void higherPriorityInterruptsLowerWaits() {
+        submit("Choose language", SpeechPriority.INTRO);
+        submit("Opening English", SpeechPriority.ACTION);
+        UtteranceScheduler.Utterance action = scheduler.current();
+        submit("Choose event", SpeechPriority.INTRO);
+        assertEquals(List.of("Choose language", "Opening English"), played);
+
+        scheduler.onFinished(action);
+        assertEquals("Choose event", played.get(played.size() - 1));
+    }
+
+    @Test
+    public void sameFocusLabelIsNotRepeated() {
+        submit("English", SpeechPriority.FOCUS);
+        advance(1_000);
+        submit("English", SpeechPriority.FOCUS);
+        assertEquals(List.of("English"), played);
+    }
+
+    @Test
+    public void cancelDropsOwnersQueueAndMovesOn() {
+        Object screenA = new Object();
+        Object screenB = new Object();
+        scheduler.submit(new UtteranceScheduler.Utterance(screenA, "Muted", "", SpeechPriority.ALERT, false, now));
+        scheduler.submit(new UtteranceScheduler.Utterance(screenA, "later", "", SpeechPriority.ACTION, true, now));
+        scheduler.submit(new UtteranceScheduler.Utterance(screenB, "Choose room", "", SpeechPriority.INTRO, false, now));
+
+        scheduler.cancel(screenA);
+        assertEquals(1, halts);
+        assertEquals(List.of("Muted", "Choose room"), played);
+        assertSame(screenB, scheduler.current().owner);
+    }
+
+    @Test
+    public void staleFinishIsIgnored() {
+        UtteranceScheduler.Utterance first = submit("Choose language", SpeechPriority.ACTION);
+        submit("Opening English", SpeechPriority.ACTION);
+        scheduler.onFinished(first); // late onStop from the flushed utterance
+        assertEquals("Opening English", scheduler.current().text);
+    }
+
+    private UtteranceScheduler.Utterance submit(String text, SpeechPriority p) {
+        UtteranceScheduler.Utterance u = new UtteranceScheduler.Utterance(this, text, "", p, false, now);
+        scheduler.submit(u);
+        return u;
+    }
+
+    private void advance(long ms) {
+        now += ms;
+        if (timer != null && now >= timerAt) {
+            Runnable r = timer;
+            timer = null;
+            r.run();
+        }
+    }
+}
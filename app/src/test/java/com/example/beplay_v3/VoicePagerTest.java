@@ -0,0 +1,77 @@
+package com.example.beplay_v3;
+
+import android.view.KeyEvent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class VoicePagerTest {
+
+    @Test
+    public void longListGetsPhrasesOnlyForTheCurrentPage() {
+        VoicePager pager = new VoicePager();
+        pager.setLabels(events(95));
+
+        assertEquals(10, pager.pageCount());
+        Map<String, Integer> phrases = pager.phrases();
+        assertTrue(phrases.containsKey("select Event 1"));
+        assertFalse(phrases.containsKey("select Event 11"));
+        assertEquals(Integer.valueOf(KeyEvent.KEYCODE_A), phrases.get("item 1"));
+        assertEquals(Integer.valueOf(VoicePager.KEY_NEXT_PAGE), phrases.get("next page"));
+    }
+
+    @Test
+    public void keycodesAreRecycledAcrossPages() {
+        VoicePager pager = new VoicePager();
+        pager.setLabels(events(95));
+
+        assertTrue(pager.next());
+        assertEquals(10, pager.firstOnPage());
+        assertEquals(Integer.valueOf(KeyEvent.KEYCODE_A), pager.phrases().get("select Event 11"));
+        assertEquals(10, pager.resolve(KeyEvent.KEYCODE_A));
+        assertEquals(12, pager.resolve(KeyEvent.KEYCODE_C));
+    }
+
+    @Test
+    public void lastPageIsPartial() {
+        VoicePager pager = new VoicePager();
+        pager.setLabels(events(95));
+        assertTrue(pager.showIndex(94));
+        assertEquals(9, pager.page());
+        assertEquals(94, pager.resolve(KeyEvent.KEYCODE_E));
+        assertEquals(-1, pager.resolve(KeyEvent.KEYCODE_F)); // slot 6 is empty here
+        assertFalse(pager.next());
+        assertFalse(pager.phrases().containsKey("item 6"));
+    }
+
+    @Test
+    public void screenCommandKeysAreNotSlots() {
+        VoicePager pager = new VoicePager();
+        pager.setLabels(events(5));
+        assertEquals(-1, pager.resolve(KeyEvent.KEYCODE_BACK));
+        assertEquals(-1, pager.resolve(VoicePager.KEY_NEXT_PAGE));
+        assertFalse(pager.phrases().containsKey("next page")); // single page
+    }
+
+    @Test
+    public void ambiguousLabelsAreNormalizedAndPrefixed() {
+        VoicePager pager = new VoicePager();
+        pager.setLabels(Arrays.asList("OK", "Español"));
+        Map<String, Integer> phrases = pager.phrases();
+        assertTrue(phrases.containsKey("select ok"));
+        assertTrue(phrases.containsKey("select Español"));
+        assertTrue(phrases.containsKey("select espanol"));
+    }
+
+    private static List<String> events(int n) {
+        List<String> out = new ArrayList<>();
+        for (int i = 1; i <= n; i++) out.add("Event " + i);
+        return out;
+    }
+}
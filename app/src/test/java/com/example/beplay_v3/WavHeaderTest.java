@@ -0,0 +1,68 @@
+package com.example.beplay_v3;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class WavHeaderTest {
+
+    @Test
+    public void durationFromByteRateAndDataSize() throws Exception {
+        // 22.05 kHz mono 16-bit = 44100 bytes/s; 0.5 s of audio
+        byte[] wav = wav(22050, 1, 16, 22050, false);
+        assertEquals(500, WavHeader.durationMs(new ByteArrayInputStream(wav)));
+    }
+
+    @Test
+    public void skipsUnknownChunks() throws Exception {
+        byte[] wav = wav(16000, 1, 16, 32000, true); // 1 s with a LIST chunk before data
+        assertEquals(1000, WavHeader.durationMs(new ByteArrayInputStream(wav)));
+    }
+
+    @Test
+    public void rejectsNonWav() throws Exception {
+        assertEquals(-1, WavHeader.durationMs(new ByteArrayInputStream("ID3 not a wav".getBytes(StandardCharsets.US_ASCII))));
+        assertEquals(-1, WavHeader.durationMs(new ByteArrayInputStream(new byte[0])));
+    }
+
+    private static byte[] wav(int sampleRate, int channels, int bits, int dataBytes, boolean extraChunk) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int blockAlign = channels * bits / 8;
+        out.writeBytes(ascii("RIFF"));
+        out.writeBytes(le32(36 + dataBytes));
+        out.writeBytes(ascii("WAVE"));
+        out.writeBytes(ascii("fmt "));
+        out.writeBytes(le32(16));
+        out.writeBytes(le16(1));
+        out.writeBytes(le16(channels));
+        out.writeBytes(le32(sampleRate));
+        out.writeBytes(le32(sampleRate * blockAlign));
+        out.writeBytes(le16(blockAlign));
+        out.writeBytes(le16(bits));
+        if (extraChunk) {
+            out.writeBytes(ascii("LIST"));
+            out.writeBytes(le32(3));
+            out.writeBytes(new byte[4]); // 3 bytes + pad
+        }
+        out.writeBytes(ascii("data"));
+        out.writeBytes(le32(dataBytes));
+        out.writeBytes(new byte[dataBytes]);
+        return out.toByteArray();
+    }
+
+    private static byte[] ascii(String s) { return s.getBytes(StandardCharsets.US_ASCII); }
+
+    private static byte[] le32(int v) {
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(v).array();
+    }
+
+    private static byte[] le16(int v) {
+        return ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN).putShort((short) v).array();
+    }
+}